@@ -12,6 +12,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -23,6 +24,9 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackgroundAddressBookSaver;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -57,7 +61,10 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = new BackgroundAddressBookSaver(
+                new JournaledAddressBookStorage(initSnapshotStorage(userPrefs.getAddressBookFilePath()),
+                        userPrefs.getJournalCompactionThreshold()),
+                userPrefs.getSaveDelayMillis());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,10 +74,22 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the data file at {@code filePath}, in the binary format if the file has the binary
+     * file extension, or in JSON otherwise.
+     */
+    private AddressBookStorage initSnapshotStorage(Path filePath) {
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return new BinaryAddressBookStorage(filePath);
+        }
+        return new JsonAddressBookStorage(filePath);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * or the data in its backup, or else an empty address book, will be used instead if errors occur when reading
+     * {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -79,20 +98,66 @@ public class MainApp extends Application {
         ReadOnlyAddressBook initialData;
         try {
             addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                addressBookOptional = importJsonAddressBook(storage);
+            }
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample WealthVault.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty WealthVault.");
-            initialData = new AddressBook();
+            initialData = readBackupAddressBook(storage).orElseGet(() -> {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with an empty WealthVault.");
+                return new AddressBook();
+            });
         }
 
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the data kept in the backup of {@code storage}'s data file by the last save, or
+     * {@code Optional.empty()} if there is no backup or it could not be loaded either.
+     */
+    private Optional<ReadOnlyAddressBook> readBackupAddressBook(Storage storage) {
+        Path backupFilePath = FileUtil.backupPathOf(storage.getAddressBookFilePath());
+        try {
+            Optional<ReadOnlyAddressBook> backupData = storage.readAddressBook(backupFilePath);
+            if (backupData.isPresent()) {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with the data saved before it, from " + backupFilePath + ".");
+            }
+            return backupData;
+        } catch (DataLoadingException e) {
+            logger.warning("Backup data file at " + backupFilePath + " could not be loaded either.");
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the data in the JSON file next to {@code storage}'s binary data file, saving it to the binary data
+     * file, or {@code Optional.empty()} if the data file is not binary or there is no such JSON file.
+     */
+    private Optional<ReadOnlyAddressBook> importJsonAddressBook(Storage storage) throws DataLoadingException {
+        if (!BinaryAddressBookStorage.isBinaryFile(storage.getAddressBookFilePath())) {
+            return Optional.empty();
+        }
+
+        Path jsonFilePath = BinaryAddressBookStorage.jsonFilePathOf(storage.getAddressBookFilePath());
+        Optional<ReadOnlyAddressBook> importedData = storage.readAddressBook(jsonFilePath);
+        if (importedData.isPresent()) {
+            logger.info("Importing data from " + jsonFilePath + " into " + storage.getAddressBookFilePath());
+            try {
+                storage.saveAddressBook(importedData.get());
+            } catch (IOException e) {
+                logger.warning("Failed to save imported data " + StringUtil.getDetails(e));
+            }
+        }
+        return importedData;
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -182,5 +247,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.compactAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -1,17 +1,34 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Whether files are read through memory mappings. A mapping is only released once its buffer is garbage
+     * collected, and Windows does not allow a mapped file to be truncated or replaced, which would make saving fail
+     * after the data file has been read.
+     */
+    private static final boolean CAN_MAP_FILES = !System.getProperty("os.name", "").startsWith("Windows");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -73,11 +90,165 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, atomically as by {@link #writeAtomically(Path, ChannelWriter)}.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        writeAtomically(file, channel -> {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        });
+    }
+
+    /**
+     * Replaces the contents of a file with what {@code writer} writes, so that the file either keeps its old contents
+     * or has all of the new contents, even if the program or the system stops partway through.
+     * The new contents are written to a temporary file next to the file and forced to disk, and the temporary file is
+     * then moved over the file in a single step.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     * @throws IOException if the contents could not be written, in which case the file is left unchanged.
+     */
+    public static void writeAtomically(Path file, ChannelWriter writer) throws IOException {
+        replaceAtomically(file, writer, false);
+    }
+
+    /**
+     * Same as {@link #writeAtomically(Path, ChannelWriter)}, but first keeps the old contents of the file, if any, in
+     * the file at {@link #backupPathOf(Path)}, replacing the contents kept by the save before it.
+     */
+    public static void writeAtomicallyKeepingBackup(Path file, ChannelWriter writer) throws IOException {
+        replaceAtomically(file, writer, true);
+    }
+
+    /**
+     * Returns the path of the file that keeps the previous contents of {@code file} when it is written by
+     * {@link #writeAtomicallyKeepingBackup(Path, ChannelWriter)}.
+     */
+    public static Path backupPathOf(Path file) {
+        return Paths.get(file.toString() + BACKUP_FILE_SUFFIX);
+    }
+
+    private static void replaceAtomically(Path file, ChannelWriter writer, boolean isKeepingBackup)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = Paths.get(file.toString() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writer.writeTo(channel);
+                channel.force(false);
+            }
+            if (isKeepingBackup && isFileExists(file)) {
+                keepBackup(file);
+            }
+            moveAtomically(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        forceDirectoryOf(file);
+    }
+
+    /**
+     * Makes the file at {@link #backupPathOf(Path)} hold the current contents of {@code file}. The backup is a
+     * second link to the contents where possible, so that they need not be copied.
+     */
+    private static void keepBackup(Path file) throws IOException {
+        Path backupFile = backupPathOf(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory holding {@code file} to disk, so that a file just moved into it stays there.
+     * Not every system allows directories to be opened, in which case this does nothing.
+     */
+    private static void forceDirectoryOf(Path file) {
+        Path dir = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the move has been made, and will reach the disk with the next sync of the directory
+        }
+    }
+
+    /**
+     * Returns the contents of the given file in a read-only buffer.
+     * The file is memory-mapped where possible, so that its contents are read straight from the OS page cache
+     * instead of being copied onto the heap. Otherwise, the file is read into a heap buffer.
+     * Assumes file exists
+     * @throws IOException if the file could not be read, or is larger than a buffer can hold.
+     */
+    public static ByteBuffer readToBuffer(Path file) throws IOException {
+        if (!CAN_MAP_FILES) {
+            return ByteBuffer.wrap(Files.readAllBytes(file)).asReadOnlyBuffer();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to be read into a buffer: " + file);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Returns an input stream over the contents of the given file, read from a memory mapping where possible
+     * as in {@link #readToBuffer(Path)}. Unlike that method, a file that cannot be mapped is read as it goes
+     * instead of being copied onto the heap in full.
+     * Assumes file exists
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        if (!CAN_MAP_FILES || Files.size(file) > Integer.MAX_VALUE) {
+            return Files.newInputStream(file);
+        }
+        return new ByteBufferInputStream(readToBuffer(file));
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the contents of the given file.
+     * Assumes file exists
+     */
+    public static long checksumOf(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        if (CAN_MAP_FILES && Files.size(file) <= Integer.MAX_VALUE) {
+            checksum.update(readToBuffer(file));
+            return checksum.getValue();
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[1 << 16];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Writes the contents of a file through a channel, which may be written at any position.
+     */
+    @FunctionalInterface
+    public interface ChannelWriter {
+        /**
+         * Writes the contents of the file to {@code channel}, which is open for writing and starts out empty.
+         * The channel is closed afterwards, and must not be closed here.
+         */
+        void writeTo(FileChannel channel) throws IOException;
     }
 
 }
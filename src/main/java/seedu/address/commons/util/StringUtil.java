@@ -5,7 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +40,104 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} with every character case-folded.
+     * Two strings are equal ignoring case, in the sense of {@link String#equalsIgnoreCase(String)}, exactly when their
+     * folded forms are equal, so folded strings can be used as keys for case-insensitive lookups.
+     * @param s cannot be null
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+
+        char[] foldedChars = null;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            char folded = Character.toLowerCase(Character.toUpperCase(c));
+            if (folded != c) {
+                if (foldedChars == null) {
+                    foldedChars = s.toCharArray();
+                }
+                foldedChars[i] = folded;
+            }
+        }
+        return foldedChars == null ? s : new String(foldedChars);
+    }
+
+    /**
+     * Returns the case-folded words of {@code sentence}, in order.
+     * Words are separated by whitespace as matched by the regex {@code \s}, so the result is the same as folding
+     * each non-empty token of {@code sentence.split("\\s+")}.
+     * @param sentence cannot be null
+     */
+    public static List<String> foldedWordsOf(String sentence) {
+        requireNonNull(sentence);
+
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i <= sentence.length(); i++) {
+            boolean isSeparator = i == sentence.length() || isRegexWhitespace(sentence.charAt(i));
+            if (isSeparator && wordStart != -1) {
+                words.add(foldCase(sentence.substring(wordStart, i)));
+                wordStart = -1;
+            } else if (!isSeparator && wordStart == -1) {
+                wordStart = i;
+            }
+        }
+        return List.copyOf(words);
+    }
+
+    /**
+     * Returns true if {@code words} contains {@code foldedWord}.
+     * Does not allocate, so it is safe to call once per client when filtering large lists.
+     * @param words case-folded words, such as those returned by {@link #foldedWordsOf(String)}
+     * @param foldedWord a word already case-folded with {@link #foldCase(String)}
+     */
+    public static boolean containsFoldedWord(List<String> words, String foldedWord) {
+        for (int i = 0; i < words.size(); i++) {
+            if (words.get(i).equals(foldedWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any of {@code words} starts with {@code foldedPrefix}.
+     * Does not allocate.
+     * @param words case-folded words, such as those returned by {@link #foldedWordsOf(String)}
+     * @param foldedPrefix a prefix already case-folded with {@link #foldCase(String)}
+     */
+    public static boolean containsFoldedWordWithPrefix(List<String> words, String foldedPrefix) {
+        for (int i = 0; i < words.size(); i++) {
+            if (words.get(i).startsWith(foldedPrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as matched by the regex {@code \s}.
+     */
+    public static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns the length of {@code s} without its whitespace, as matched by the regex {@code \s}.
+     * Same as {@code s.replaceAll("\\s+", "").length()}, but does not allocate.
+     * @param s cannot be null
+     */
+    public static int lengthWithoutWhitespace(String s) {
+        int length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            if (!isRegexWhitespace(s.charAt(i))) {
+                length++;
+            }
+        }
+        return length;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
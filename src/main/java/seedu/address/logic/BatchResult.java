@@ -0,0 +1,135 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The outcome of executing a batch of commands: how many commands were executed, how long they took, and which of
+ * them failed.
+ */
+public class BatchResult {
+
+    public static final String MESSAGE_SUMMARY =
+            "Ran %1$d commands in %2$.2f s (%3$.0f commands per second): %4$d succeeded, %5$d failed.";
+    public static final String MESSAGE_STOPPED = "Stopped at the first failure.";
+    public static final String MESSAGE_ROLLED_BACK = "All changes made by the batch were rolled back.";
+    public static final String MESSAGE_MORE_FAILURES = "... and %1$d more failures.";
+
+    /** The most failures listed in the feedback, so that it stays readable when many commands fail. */
+    static final int MAX_FAILURES_SHOWN = 20;
+
+    /**
+     * A command in a batch that failed.
+     */
+    public static class Failure {
+        private final int lineNumber;
+        private final String message;
+
+        /**
+         * Constructs a {@code Failure} of the command on line {@code lineNumber}, counting from 1.
+         */
+        public Failure(int lineNumber, String message) {
+            requireNonNull(message);
+            this.lineNumber = lineNumber;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + ": " + message.trim();
+        }
+    }
+
+    private final int commandCount;
+    private final List<Failure> failures;
+    private final long elapsedNanos;
+    private final boolean isStopped;
+    private final boolean isRolledBack;
+
+    /**
+     * Constructs a {@code BatchResult}.
+     *
+     * @param commandCount The number of commands executed, including those that failed.
+     * @param isStopped Whether the batch was stopped at its first failure.
+     * @param isRolledBack Whether the changes made by the batch were rolled back.
+     */
+    public BatchResult(int commandCount, List<Failure> failures, long elapsedNanos, boolean isStopped,
+            boolean isRolledBack) {
+        requireNonNull(failures);
+        this.commandCount = commandCount;
+        this.failures = List.copyOf(failures);
+        this.elapsedNanos = elapsedNanos;
+        this.isStopped = isStopped;
+        this.isRolledBack = isRolledBack;
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public int getSuccessCount() {
+        return commandCount - failures.size();
+    }
+
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public boolean isStopped() {
+        return isStopped;
+    }
+
+    public boolean isRolledBack() {
+        return isRolledBack;
+    }
+
+    /**
+     * Returns the summary of the batch shown to the user, followed by its first few failures.
+     */
+    public String getFeedback() {
+        double elapsedSeconds = (double) elapsedNanos / TimeUnit.SECONDS.toNanos(1);
+        double commandsPerSecond = commandCount / Math.max(elapsedSeconds, 1e-9);
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUMMARY,
+                commandCount, elapsedSeconds, commandsPerSecond, getSuccessCount(), failures.size()));
+        if (isStopped) {
+            feedback.append(' ').append(MESSAGE_STOPPED);
+        }
+        if (isRolledBack) {
+            feedback.append(' ').append(MESSAGE_ROLLED_BACK);
+        }
+        for (Failure failure : failures.subList(0, Math.min(failures.size(), MAX_FAILURES_SHOWN))) {
+            feedback.append('\n').append(failure);
+        }
+        if (failures.size() > MAX_FAILURES_SHOWN) {
+            feedback.append('\n').append(String.format(MESSAGE_MORE_FAILURES, failures.size() - MAX_FAILURES_SHOWN));
+        }
+        return feedback.toString();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandCount", commandCount)
+                .add("failures", failures)
+                .add("elapsedNanos", elapsedNanos)
+                .add("isStopped", isStopped)
+                .add("isRolledBack", isRolledBack)
+                .toString();
+    }
+}
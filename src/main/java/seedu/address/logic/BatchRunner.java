@@ -0,0 +1,128 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+
+/**
+ * Executes a batch of commands against a model one after another, without saving the model in between.
+ * Blank lines and lines starting with {@value #COMMENT_MARKER} are skipped, so that scripts can be laid out and
+ * commented. Commands that would show help or exit the app have no effect on the app when run in a batch.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_NESTED_SCRIPT = "Scripts cannot run other scripts.";
+
+    /**
+     * What to do when a command in a batch fails.
+     */
+    public enum OnFailure {
+        /** Carry on with the rest of the batch. */
+        CONTINUE("continue"),
+        /** Stop the batch, keeping the changes of the commands before the failed one. */
+        STOP("stop"),
+        /** Stop the batch, and undo the changes of all commands in it. */
+        ROLL_BACK("rollback");
+
+        private final String keyword;
+
+        OnFailure(String keyword) {
+            this.keyword = keyword;
+        }
+
+        /**
+         * Returns the word for this option in the {@code run} command.
+         */
+        public String getKeyword() {
+            return keyword;
+        }
+    }
+
+    private final Model model;
+    private final OnFailure onFailure;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    /**
+     * Constructs a {@code BatchRunner} that executes commands against {@code model}.
+     */
+    public BatchRunner(Model model, OnFailure onFailure) {
+        requireNonNull(model);
+        requireNonNull(onFailure);
+        this.model = model;
+        this.onFailure = onFailure;
+    }
+
+    /**
+     * Executes each of {@code commandTexts} in order, and returns how many were executed and which failed.
+     * If {@code commandTexts} throws an exception while it is being read, the exception is rethrown, after rolling
+     * back the changes made by the batch if failures are to be rolled back.
+     */
+    public BatchResult run(Iterable<String> commandTexts) {
+        long startNanos = System.nanoTime();
+        long startModificationCount = model.getAddressBookModificationCount();
+        AddressBook snapshot = onFailure == OnFailure.ROLL_BACK ? new AddressBook(model.getAddressBook()) : null;
+
+        int lineNumber = 0;
+        int commandCount = 0;
+        List<BatchResult.Failure> failures = new ArrayList<>();
+        try {
+            for (String commandText : commandTexts) {
+                lineNumber++;
+                String trimmedText = commandText.trim();
+                if (trimmedText.isEmpty() || trimmedText.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    execute(trimmedText);
+                } catch (CommandException | ParseException e) {
+                    failures.add(new BatchResult.Failure(lineNumber, e.getMessage()));
+                    if (onFailure != OnFailure.CONTINUE) {
+                        break;
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            rollBackTo(snapshot, startModificationCount);
+            throw e;
+        }
+
+        boolean isRolledBack = !failures.isEmpty() && rollBackTo(snapshot, startModificationCount);
+        boolean isStopped = !failures.isEmpty() && onFailure != OnFailure.CONTINUE;
+        return new BatchResult(commandCount, failures, System.nanoTime() - startNanos, isStopped, isRolledBack);
+    }
+
+    private void execute(String commandText) throws CommandException, ParseException {
+        Command command = addressBookParser.parseCommand(commandText);
+        if (command instanceof RunCommand) {
+            throw new CommandException(MESSAGE_NESTED_SCRIPT);
+        }
+        command.execute(model);
+    }
+
+    /**
+     * Restores the address book of the model to {@code snapshot}, if there is one, and returns true if it was taken.
+     * The address book is only replaced if it has been modified since {@code startModificationCount}.
+     */
+    private boolean rollBackTo(AddressBook snapshot, long startModificationCount) {
+        if (snapshot == null) {
+            return false;
+        }
+        if (model.getAddressBookModificationCount() != startModificationCount) {
+            model.setAddressBook(snapshot);
+        }
+        return true;
+    }
+}
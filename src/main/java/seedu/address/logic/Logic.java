@@ -1,9 +1,11 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.BatchRunner.OnFailure;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -23,6 +25,21 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands in order, carrying on past any that fail, and saves the address book once at the end.
+     * @param commandTexts The commands, one per element, as they would be entered by the user.
+     * @return how many commands were executed, and which failed.
+     * @throws CommandException If the address book could not be saved.
+     */
+    BatchResult executeBatch(Iterable<String> commandTexts) throws CommandException;
+
+    /**
+     * Executes the commands in order, handling any that fail as {@code onFailure}, and saves the address book once
+     * at the end.
+     * @see #executeBatch(Iterable)
+     */
+    BatchResult executeBatch(Iterable<String> commandTexts, OnFailure onFailure) throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -47,4 +64,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler of the error messages of saves that fail after the command that requested them has returned.
+     * The handler may be called from any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
 }
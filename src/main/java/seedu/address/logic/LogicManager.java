@@ -1,13 +1,17 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.BatchRunner.OnFailure;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -33,6 +37,9 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** The modification count of the address book when it was last saved, or loaded if it has not been saved. */
+    private long savedModificationCount;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -40,6 +47,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getAddressBookModificationCount();
     }
 
     @Override
@@ -50,17 +58,42 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
-        }
-
+        saveIfModified();
         return commandResult;
     }
 
+    @Override
+    public BatchResult executeBatch(Iterable<String> commandTexts) throws CommandException {
+        return executeBatch(commandTexts, OnFailure.CONTINUE);
+    }
+
+    @Override
+    public BatchResult executeBatch(Iterable<String> commandTexts, OnFailure onFailure) throws CommandException {
+        requireNonNull(commandTexts);
+        logger.info("----------------[BATCH][" + onFailure + "]");
+
+        BatchResult batchResult = new BatchRunner(model, onFailure).run(commandTexts);
+        logger.info(batchResult.toString());
+
+        saveIfModified();
+        return batchResult;
+    }
+
+    /**
+     * Saves the address book if it has been modified since it was last saved.
+     */
+    private void saveIfModified() throws CommandException {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount != savedModificationCount) {
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException ioe) {
+                throw new CommandException(saveFailureMessageOf(ioe), ioe);
+            }
+            savedModificationCount = modificationCount;
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -85,4 +118,20 @@ public class LogicManager implements Logic {
     public ObservableList<Client> getFilteredClientList() {
         return model.getFilteredClientList();
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        storage.setSaveFailureHandler(e -> handler.accept(saveFailureMessageOf(e)));
+    }
+
+    /**
+     * Returns the message shown to the user when saving the address book fails with {@code e}.
+     */
+    private static String saveFailureMessageOf(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
 }
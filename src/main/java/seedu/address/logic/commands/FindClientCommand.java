@@ -9,7 +9,7 @@ import seedu.address.model.client.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all clients in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive, and a keyword ending with {@code *} matches names with a word starting with it.
  */
 public class FindClientCommand extends Command {
 
@@ -17,8 +17,9 @@ public class FindClientCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all clients whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "A keyword ending with * matches any name with a word starting with that keyword.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob tan*";
 
     private final NameContainsKeywordsPredicate predicate;
 
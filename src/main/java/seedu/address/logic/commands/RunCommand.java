@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ON_FAILURE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.BatchResult;
+import seedu.address.logic.BatchRunner;
+import seedu.address.logic.BatchRunner.OnFailure;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line. The file is read as the commands are run, so that scripts of any
+ * length can be run, and the address book is saved once after the whole script has run.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a text file, one command per line, and saves the data once at the end.\n"
+            + "Parameters: FILE [" + PREFIX_ON_FAILURE + "continue|stop|rollback]\n"
+            + "Example: " + COMMAND_WORD + " campaign.txt " + PREFIX_ON_FAILURE + "rollback";
+
+    public static final String MESSAGE_READ_FAILURE = "Could not read the script %1$s: %2$s";
+
+    private final Path scriptFile;
+    private final OnFailure onFailure;
+
+    /**
+     * Creates a RunCommand to run the commands in {@code scriptFile}, handling failed commands as {@code onFailure}.
+     */
+    public RunCommand(Path scriptFile, OnFailure onFailure) {
+        requireNonNull(scriptFile);
+        requireNonNull(onFailure);
+        this.scriptFile = scriptFile;
+        this.onFailure = onFailure;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        try (BufferedReader reader = Files.newBufferedReader(scriptFile)) {
+            BatchResult result = new BatchRunner(model, onFailure).run(reader.lines()::iterator);
+            return new CommandResult(result.getFeedback());
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, scriptFile, ioe), ioe);
+        } catch (UncheckedIOException uioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, scriptFile, uioe.getCause()), uioe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptFile.equals(otherRunCommand.scriptFile)
+                && onFailure == otherRunCommand.onFailure;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scriptFile, onFailure);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptFile", scriptFile)
+                .add("onFailure", onFailure)
+                .toString();
+    }
+}
@@ -1,11 +1,10 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.commons.util.StringUtil.isRegexWhitespace;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddClientCommand;
@@ -23,6 +22,7 @@ import seedu.address.logic.commands.FindClientOrCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PriorityCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.SortPriorityCommand;
 import seedu.address.logic.commands.UpdateClientCommand;
@@ -30,15 +30,33 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * Command words are looked up in a {@link CommandRegistry} of parsers that are created once and shared by every
+ * {@code AddressBookParser}.
  */
 public class AddressBookParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private static final CommandRegistry COMMANDS = new CommandRegistry()
+            .register(AddClientCommand.COMMAND_WORD, new AddClientCommandParser())
+            .register(AddPolicyCommand.COMMAND_WORD, new AddPolicyCommandParser())
+            .register(EditCommand.COMMAND_WORD, new EditCommandParser())
+            .register(UpdateClientCommand.COMMAND_WORD, new UpdateClientCommandParser())
+            .register(DeleteClientCommand.COMMAND_WORD, new DeleteClientCommandParser())
+            .register(DeleteClientMultCommand.COMMAND_WORD, new DeleteClientMultCommandParser())
+            .register(DeletePolicyCommand.COMMAND_WORD, new DeletePolicyCommandParser())
+            .registerExact(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand())
+            .register(FindClientCommand.COMMAND_WORD, new FindClientCommandParser())
+            .register(ListCommand.COMMAND_WORD, arguments -> new ListCommand())
+            .register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand(), ExitCommand.COMMAND_ALIAS)
+            .register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand())
+            .register(PriorityCommand.COMMAND_WORD, new PriorityCommandParser())
+            .register(FindClientOrCommand.COMMAND_WORD, new FindClientOrCommandParser())
+            .register(FindClientAndCommand.COMMAND_WORD, new FindClientAndCommandParser())
+            .register(SortCommand.COMMAND_WORD, arguments -> new SortCommand())
+            .register(SortPriorityCommand.COMMAND_WORD, arguments -> new SortPriorityCommand())
+            .registerExact(RunCommand.COMMAND_WORD, new RunCommandParser());
+
     /**
      * Parses user input into command for execution.
      *
@@ -47,77 +65,43 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !isRegexWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        if (commandWordEnd == 0 || containsLineTerminator(trimmedInput, commandWordEnd)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord.toLowerCase()) {
-
-        case AddClientCommand.COMMAND_WORD:
-            return new AddClientCommandParser().parse(arguments);
-
-        case AddPolicyCommand.COMMAND_WORD:
-            return new AddPolicyCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case UpdateClientCommand.COMMAND_WORD:
-            return new UpdateClientCommandParser().parse(arguments);
-
-        case DeleteClientCommand.COMMAND_WORD:
-            return new DeleteClientCommandParser().parse(arguments);
-
-        case DeleteClientMultCommand.COMMAND_WORD:
-            return new DeleteClientMultCommandParser().parse(arguments);
-
-        case DeletePolicyCommand.COMMAND_WORD:
-            return new DeletePolicyCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindClientCommand.COMMAND_WORD:
-            return new FindClientCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case PriorityCommand.COMMAND_WORD:
-            return new PriorityCommandParser().parse(arguments);
-
-        case FindClientOrCommand.COMMAND_WORD:
-            return new FindClientOrCommandParser().parse(arguments);
-
-        case FindClientAndCommand.COMMAND_WORD:
-            return new FindClientAndCommandParser().parse(arguments);
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommand();
-
-        case SortPriorityCommand.COMMAND_WORD:
-            return new SortPriorityCommand();
-
-        default:
+        Parser<? extends Command> parser = COMMANDS.parserFor(commandWord.toLowerCase());
+        if (parser == null) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
     }
 
-}
+    /**
+     * Returns true if {@code s} has a line terminator, which the arguments of a command cannot span, from index
+     * {@code start} onwards.
+     */
+    private static boolean containsLineTerminator(String s, int start) {
+        for (int i = start; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
 
+}
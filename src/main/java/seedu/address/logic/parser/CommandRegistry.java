@@ -0,0 +1,85 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * Maps command words to the parsers of their commands.
+ * A command may be registered under aliases as well as its command word, and can also be entered as any abbreviation
+ * of its command word or aliases that no other command shares. A word that is registered exactly always refers to its
+ * own command, even if it also abbreviates another command (e.g. {@code sort} and {@code sortpriority}).
+ * Commands that are costly to run by mistake, such as one that deletes every client, can be registered to be entered
+ * only in full. An abbreviation of such a command refers to no command at all.
+ * Parsers are shared by every input they parse, so they must not hold any state between calls.
+ */
+class CommandRegistry {
+
+    /** Stands for an abbreviation of more than one command, or of a command that cannot be abbreviated. */
+    private static final Parser<Command> AMBIGUOUS = arguments -> {
+        throw new IllegalStateException("Ambiguous abbreviations have no parser");
+    };
+
+    private final Map<String, Parser<? extends Command>> parsersByWord = new HashMap<>();
+    private final Map<String, Parser<? extends Command>> parsersByAbbreviation = new HashMap<>();
+
+    /**
+     * Registers {@code parser} for the command entered as {@code commandWord} or any of {@code aliases}.
+     *
+     * @return this registry, so that commands can be registered one after another.
+     * @throws IllegalArgumentException if any of the words is already registered for another command.
+     */
+    CommandRegistry register(String commandWord, Parser<? extends Command> parser, String... aliases) {
+        return registerWords(commandWord, parser, aliases, true);
+    }
+
+    /**
+     * Registers {@code parser} for the command entered as exactly {@code commandWord} or any of {@code aliases}.
+     * Unlike {@link #register(String, Parser, String...)}, the command cannot be entered as an abbreviation.
+     *
+     * @return this registry, so that commands can be registered one after another.
+     * @throws IllegalArgumentException if any of the words is already registered for another command.
+     */
+    CommandRegistry registerExact(String commandWord, Parser<? extends Command> parser, String... aliases) {
+        return registerWords(commandWord, parser, aliases, false);
+    }
+
+    private CommandRegistry registerWords(String commandWord, Parser<? extends Command> parser, String[] aliases,
+            boolean isAbbreviable) {
+        requireNonNull(parser);
+        registerWord(commandWord, parser, isAbbreviable);
+        for (String alias : aliases) {
+            registerWord(alias, parser, isAbbreviable);
+        }
+        return this;
+    }
+
+    private void registerWord(String word, Parser<? extends Command> parser, boolean isAbbreviable) {
+        requireNonNull(word);
+        Parser<? extends Command> registeredParser = parsersByWord.putIfAbsent(word, parser);
+        if (registeredParser != null && registeredParser != parser) {
+            throw new IllegalArgumentException("Command word " + word + " is already registered");
+        }
+        Parser<? extends Command> abbreviatedParser = isAbbreviable ? parser : AMBIGUOUS;
+        for (int length = 1; length < word.length(); length++) {
+            parsersByAbbreviation.merge(word.substring(0, length), abbreviatedParser, (otherParser, newParser) ->
+                    otherParser == newParser ? otherParser : AMBIGUOUS);
+        }
+    }
+
+    /**
+     * Returns the parser of the command that {@code word} is registered for, or abbreviates,
+     * or null if there is no such command or {@code word} abbreviates more than one command.
+     */
+    Parser<? extends Command> parserFor(String word) {
+        Parser<? extends Command> parser = parsersByWord.get(word);
+        if (parser != null) {
+            return parser;
+        }
+        parser = parsersByAbbreviation.get(word);
+        return parser == AMBIGUOUS ? null : parser;
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ON_FAILURE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.logic.BatchRunner.OnFailure;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_INVALID_ON_FAILURE =
+            "What to do when a command fails should be continue, stop or rollback.\n";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ON_FAILURE);
+        if (argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ON_FAILURE);
+
+        Path scriptFile;
+        try {
+            scriptFile = Path.of(argMultimap.getPreamble());
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(ipe.getMessage() + "\n"
+                    + String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE), ipe);
+        }
+        return new RunCommand(scriptFile, parseOnFailure(argMultimap.getValue(PREFIX_ON_FAILURE)));
+    }
+
+    private static OnFailure parseOnFailure(Optional<String> keyword) throws ParseException {
+        if (keyword.isEmpty()) {
+            return OnFailure.CONTINUE;
+        }
+        for (OnFailure onFailure : OnFailure.values()) {
+            if (onFailure.getKeyword().equalsIgnoreCase(keyword.get())) {
+                return onFailure;
+            }
+        }
+        throw new ParseException(MESSAGE_INVALID_ON_FAILURE
+                + String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+}
@@ -2,12 +2,16 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.ClientSearchIndex;
+import seedu.address.model.client.NameCollation;
 import seedu.address.model.client.UniqueClientList;
+import seedu.address.model.client.exceptions.DuplicateClientException;
 
 /**
  * Wraps all data at the address-book level
@@ -16,6 +20,10 @@ import seedu.address.model.client.UniqueClientList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueClientList clients;
+
+    /** The number of modifications made to this address book, used to tell whether derived data is out of date. */
+    private long modificationCount;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -45,6 +53,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setClients(List<Client> clients) {
         this.clients.setClients(clients);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of the client list with {@code clients} in a single pass.
+     * Uniqueness is checked once over the whole batch and the backing list is filled in one step, so loading
+     * {@code n} clients takes linear time instead of one identity check and one list insertion per client.
+     *
+     * @param clients The clients to load, in order.
+     * @throws DuplicateClientException if {@code clients} contains two clients with the same identity.
+     */
+    public void bulkLoad(Iterable<Client> clients) {
+        requireNonNull(clients);
+        List<Client> loadedClients = new ArrayList<>();
+        clients.forEach(loadedClients::add);
+        setClients(loadedClients);
     }
 
     /**
@@ -76,6 +100,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addClient(Client c) {
         clients.add(c);
+        modificationCount++;
     }
 
     /**
@@ -88,6 +113,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setClient(Client target, Client editedClient) {
         requireNonNull(editedClient);
         clients.setClient(target, editedClient);
+        modificationCount++;
     }
 
     /**
@@ -97,15 +123,54 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeClient(Client key) {
         clients.remove(key);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the position of the client with the same identity as {@code client} in the client list,
+     * or -1 if there is no such client.
+     */
+    public int indexOf(Client client) {
+        return clients.indexOf(client);
+    }
+
+    /**
+     * Returns the word index over the names and tags of the clients in this address book.
+     */
+    public ClientSearchIndex getSearchIndex() {
+        return clients.getSearchIndex();
+    }
+
+    /**
+     * Returns the number of modifications made to this address book so far.
+     * The count increases with every change to the clients or their order, so two equal counts read from the same
+     * address book mean that it has not changed in between.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Orders client names by {@code collation} when sorting, re-sorting the clients if they are kept sorted.
+     */
+    public void setNameCollation(NameCollation collation) {
+        if (clients.setNameCollation(collation)) {
+            modificationCount++;
+        }
     }
 
     @Override
     public void sortClients() {
         clients.sort();
+        modificationCount++;
     }
 
+    /**
+     * Sorts the clients so that priority clients come first, each group in alphabetical order.
+     */
     public void sortClientsByPriority() {
         clients.sortClientsByPriority();
+        modificationCount++;
     }
 
     /**
@@ -0,0 +1,92 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.client.AbstractContainsKeywordsPredicate;
+import seedu.address.model.client.Client;
+
+/**
+ * A bounded cache of the clients matching recently used keyword predicates, evicting the least recently used.
+ * Cached results are only valid for the version of the address book they were looked up in, so all of them are
+ * discarded as soon as the modification count of the address book changes.
+ */
+public class FilterResultCache {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final Map<AbstractContainsKeywordsPredicate, Collection<Client>> results;
+    private long cachedModificationCount = -1;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates a cache holding the results of at most {@code capacity} predicates.
+     */
+    public FilterResultCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<AbstractContainsKeywordsPredicate, Collection<Client>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public FilterResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the cached clients in {@code addressBook} that satisfy {@code predicate}, if they were cached for the
+     * current version of {@code addressBook}. The returned clients must not be modified.
+     */
+    Optional<Collection<Client>> get(AbstractContainsKeywordsPredicate predicate, AddressBook addressBook) {
+        requireAllNonNull(predicate, addressBook);
+        discardIfOutdated(addressBook);
+        Collection<Client> matches = results.get(predicate);
+        if (matches == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(matches);
+    }
+
+    /**
+     * Caches {@code matches} as the clients in the current version of {@code addressBook} that satisfy
+     * {@code predicate}.
+     */
+    void put(AbstractContainsKeywordsPredicate predicate, AddressBook addressBook, Collection<Client> matches) {
+        requireAllNonNull(predicate, addressBook, matches);
+        discardIfOutdated(addressBook);
+        results.put(predicate, matches);
+    }
+
+    private void discardIfOutdated(AddressBook addressBook) {
+        if (addressBook.getModificationCount() != cachedModificationCount) {
+            results.clear();
+            cachedModificationCount = addressBook.getModificationCount();
+        }
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that were not answered from the cache.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+}
@@ -0,0 +1,272 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.client.Client;
+
+/**
+ * A filtered view of an observable list of clients that keeps the order of its source.
+ * Like {@code FilteredList}, the view can be filtered by testing every client against a predicate. It can also be
+ * set directly from the clients already known to match a predicate, such as the result of an index lookup, in which
+ * case only the matching clients are visited, or narrowed by re-testing only the clients it already shows. In every
+ * case, the predicate is kept to test clients that are later added to or replaced in the source.
+ */
+class FilteredClientList extends TransformationList<Client, Client> {
+
+    private final ToIntFunction<Client> sourcePositions;
+    private Predicate<? super Client> predicate;
+
+    /** Source indices of the clients in this view, in increasing order. */
+    private int[] filtered = new int[0];
+    private int size;
+
+    /**
+     * Creates a view of {@code source} that initially shows every client.
+     *
+     * @param sourcePositions Returns the index in {@code source} of a client in {@code source}.
+     */
+    FilteredClientList(ObservableList<Client> source, ToIntFunction<Client> sourcePositions) {
+        super(source);
+        this.sourcePositions = requireNonNull(sourcePositions);
+        setPredicate(Model.PREDICATE_SHOW_ALL_CLIENTS);
+    }
+
+    /**
+     * Filters the view by testing every client in the source against {@code predicate}.
+     */
+    void setPredicate(Predicate<? super Client> predicate) {
+        requireNonNull(predicate);
+        ObservableList<? extends Client> source = getSource();
+        int[] matches = new int[source.size()];
+        int matchCount = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                matches[matchCount++] = i;
+            }
+        }
+        replaceFiltered(predicate, matches, matchCount);
+    }
+
+    /**
+     * Filters the view to show exactly {@code matches}, which must be the clients in the source that satisfy
+     * {@code predicate}. Only the matching clients are visited.
+     */
+    void setPredicate(Predicate<? super Client> predicate, Collection<Client> matches) {
+        requireNonNull(predicate);
+        requireNonNull(matches);
+        int[] positions = new int[matches.size()];
+        int matchCount = 0;
+        for (Client match : matches) {
+            int position = sourcePositions.applyAsInt(match);
+            assert position >= 0 && getSource().get(position) == match;
+            positions[matchCount++] = position;
+        }
+        Arrays.sort(positions, 0, matchCount);
+        replaceFiltered(predicate, positions, matchCount);
+    }
+
+    /**
+     * Narrows the view to {@code predicate} by testing only the clients currently shown.
+     * {@code predicate} must not match any client in the source that the current predicate does not match.
+     */
+    void refinePredicate(Predicate<? super Client> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+
+        beginChange();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Client client = getSource().get(filtered[i]);
+            if (predicate.test(client)) {
+                filtered[kept++] = filtered[i];
+            } else {
+                nextRemove(kept, client);
+            }
+        }
+        size = kept;
+        endChange();
+    }
+
+    /**
+     * Returns the predicate that the clients in this view satisfy.
+     */
+    Predicate<? super Client> getPredicate() {
+        return predicate;
+    }
+
+    private void replaceFiltered(Predicate<? super Client> newPredicate, int[] newFiltered, int newSize) {
+        List<Client> removed = new ArrayList<>(this);
+        predicate = newPredicate;
+        filtered = newFiltered;
+        size = newSize;
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Client> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                addRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    private void permute(Change<? extends Client> change) {
+        int from = lowerBound(change.getFrom());
+        int to = lowerBound(change.getTo());
+        if (to == from) {
+            return;
+        }
+
+        // Sort the permuted source indices, remembering the view index each one came from.
+        long[] order = new long[to - from];
+        for (int i = from; i < to; i++) {
+            order[i - from] = ((long) change.getPermutation(filtered[i]) << Integer.SIZE) | i;
+        }
+        Arrays.sort(order);
+
+        int[] permutation = new int[to - from];
+        for (int i = from; i < to; i++) {
+            filtered[i] = (int) (order[i - from] >>> Integer.SIZE);
+            permutation[(int) order[i - from] - from] = i;
+        }
+        nextPermutation(from, to, permutation);
+    }
+
+    private void update(Change<? extends Client> change) {
+        for (int sourceIndex = change.getFrom(); sourceIndex < change.getTo(); sourceIndex++) {
+            Client client = getSource().get(sourceIndex);
+            int position = lowerBound(sourceIndex);
+            boolean isShown = position < size && filtered[position] == sourceIndex;
+            boolean isMatch = predicate.test(client);
+            if (isShown && isMatch) {
+                nextUpdate(position);
+            } else if (isShown) {
+                System.arraycopy(filtered, position + 1, filtered, position, size - position - 1);
+                size--;
+                nextRemove(position, client);
+            } else if (isMatch) {
+                ensureCapacity(size + 1);
+                System.arraycopy(filtered, position, filtered, position + 1, size - position);
+                filtered[position] = sourceIndex;
+                size++;
+                nextAdd(position, position + 1);
+            }
+        }
+    }
+
+    private void addRemove(Change<? extends Client> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int addedSize = change.getAddedSize();
+
+        int start = lowerBound(from);
+        int end = lowerBound(from + removedSize);
+        if (end > start) {
+            List<? extends Client> sourceRemoved = change.getRemoved();
+            List<Client> removed = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                removed.add(sourceRemoved.get(filtered[i] - from));
+            }
+            nextRemove(start, removed);
+        }
+
+        int[] added = new int[addedSize];
+        int addedCount = 0;
+        for (int sourceIndex = from; sourceIndex < from + addedSize; sourceIndex++) {
+            if (predicate.test(getSource().get(sourceIndex))) {
+                added[addedCount++] = sourceIndex;
+            }
+        }
+
+        // Move the clients after the change into place and shift their source indices.
+        int tailSize = size - end;
+        int newSize = start + addedCount + tailSize;
+        ensureCapacity(newSize);
+        System.arraycopy(filtered, end, filtered, start + addedCount, tailSize);
+        int shift = addedSize - removedSize;
+        for (int i = start + addedCount; i < newSize; i++) {
+            filtered[i] += shift;
+        }
+        System.arraycopy(added, 0, filtered, start, addedCount);
+        size = newSize;
+
+        if (addedCount > 0) {
+            nextAdd(start, start + addedCount);
+        }
+    }
+
+    /**
+     * Returns the first view index whose source index is at least {@code sourceIndex}.
+     */
+    private int lowerBound(int sourceIndex) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (filtered[mid] < sourceIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > filtered.length) {
+            filtered = Arrays.copyOf(filtered, Math.max(capacity, filtered.length * 3 / 2 + 1));
+        }
+    }
+
+    @Override
+    public Client get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return getSource().get(filtered[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = lowerBound(index);
+        return position < size && filtered[position] == index ? position : -1;
+    }
+}
@@ -52,6 +52,14 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the number of modifications made to the address book so far.
+     * Two equal counts mean that the address book did not change in between.
+     *
+     * @see AddressBook#getModificationCount()
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a client with the same identity as {@code client} exists in the address book.
      */
@@ -4,14 +4,18 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.client.AbstractContainsKeywordsPredicate;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.NameCollation;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -21,7 +25,8 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Client> filteredClients;
+    private final FilteredClientList filteredClients;
+    private final FilterResultCache filterResultCache = new FilterResultCache();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,7 +38,8 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredClients = new FilteredList<>(this.addressBook.getClientList());
+        this.addressBook.setNameCollation(NameCollation.forLanguageTag(this.userPrefs.getSortLocale()));
+        filteredClients = new FilteredClientList(this.addressBook.getClientList(), this.addressBook::indexOf);
     }
 
     public ModelManager() {
@@ -46,6 +52,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setNameCollation(NameCollation.forLanguageTag(this.userPrefs.getSortLocale()));
     }
 
     @Override
@@ -87,6 +94,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasClient(Client client) {
         requireNonNull(client);
@@ -101,7 +113,10 @@ public class ModelManager implements Model {
     @Override
     public void addClient(Client client) {
         addressBook.addClient(client);
-        updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        // a view of every client already shows the new client, so is only reset if it is filtered
+        if (filteredClients.getPredicate() != PREDICATE_SHOW_ALL_CLIENTS) {
+            updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        }
     }
 
     @Override
@@ -132,12 +147,55 @@ public class ModelManager implements Model {
         return filteredClients;
     }
 
+    /**
+     * {@inheritDoc}
+     * A keyword predicate that narrows the keyword predicate currently shown, such as {@code findall alice tan} after
+     * {@code findall alice}, is tested against only the clients currently shown. Other keyword predicates are
+     * resolved through the address book's search index, so only the matching clients are visited; any other
+     * predicate is tested against every client. The matches of keyword predicates are cached until the address book
+     * next changes, so repeating a recent search only visits its results.
+     */
     @Override
     public void updateFilteredClientList(Predicate<Client> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof AbstractContainsKeywordsPredicate) {
+            updateFilteredClientList((AbstractContainsKeywordsPredicate) predicate);
+            return;
+        }
         filteredClients.setPredicate(predicate);
     }
 
+    private void updateFilteredClientList(AbstractContainsKeywordsPredicate predicate) {
+        Optional<Collection<Client>> cachedMatches = filterResultCache.get(predicate, addressBook);
+        if (cachedMatches.isPresent()) {
+            filteredClients.setPredicate(predicate, cachedMatches.get());
+            return;
+        }
+
+        Collection<Client> matches;
+        if (isNarrowingOfShownPredicate(predicate)) {
+            filteredClients.refinePredicate(predicate);
+            matches = new ArrayList<>(filteredClients);
+        } else {
+            matches = predicate.findMatches(addressBook.getSearchIndex());
+            filteredClients.setPredicate(predicate, matches);
+        }
+        filterResultCache.put(predicate, addressBook, matches);
+    }
+
+    /**
+     * Returns the cache of keyword search results, which records how often searches were answered from it.
+     */
+    public FilterResultCache getFilterResultCache() {
+        return filterResultCache;
+    }
+
+    private boolean isNarrowingOfShownPredicate(AbstractContainsKeywordsPredicate predicate) {
+        Predicate<? super Client> shownPredicate = filteredClients.getPredicate();
+        return shownPredicate instanceof AbstractContainsKeywordsPredicate
+                && predicate.isNarrowingOf((AbstractContainsKeywordsPredicate) shownPredicate);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
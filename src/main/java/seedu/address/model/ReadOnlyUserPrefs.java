@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    String getSortLocale();
+
+    int getJournalCompactionThreshold();
+
+    long getSaveDelayMillis();
+
 }
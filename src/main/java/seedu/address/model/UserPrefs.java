@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,14 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 1000;
+    public static final long DEFAULT_SAVE_DELAY_MILLIS = 200;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "wealthvault.json");
+    private String sortLocale = "";
+    private int journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+    private long saveDelayMillis = DEFAULT_SAVE_DELAY_MILLIS;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +43,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setSortLocale(newUserPrefs.getSortLocale());
+        setJournalCompactionThreshold(newUserPrefs.getJournalCompactionThreshold());
+        setSaveDelayMillis(newUserPrefs.getSaveDelayMillis());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,44 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public String getSortLocale() {
+        return sortLocale;
+    }
+
+    /**
+     * Sets the language tag, such as {@code de} or {@code en-SG}, of the locale whose conventions client names are
+     * sorted by. A blank tag sorts names case-insensitively regardless of locale.
+     */
+    public void setSortLocale(String sortLocale) {
+        requireNonNull(sortLocale);
+        this.sortLocale = sortLocale;
+    }
+
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    /**
+     * Sets the number of changes recorded in the data file's journal after which the data file is rewritten in full.
+     */
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        checkArgument(journalCompactionThreshold >= 0, "Journal compaction threshold cannot be negative");
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    /**
+     * Sets how long, in milliseconds, changes are held before being saved, so that the changes of commands entered
+     * in quick succession are saved together.
+     */
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        checkArgument(saveDelayMillis >= 0, "Save delay cannot be negative");
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +117,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && sortLocale.equals(otherUserPrefs.sortLocale)
+                && journalCompactionThreshold == otherUserPrefs.journalCompactionThreshold
+                && saveDelayMillis == otherUserPrefs.saveDelayMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, sortLocale, journalCompactionThreshold, saveDelayMillis);
     }
 
     @Override
@@ -82,6 +133,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nSort locale : " + sortLocale);
+        sb.append("\nJournal compaction threshold : " + journalCompactionThreshold);
+        sb.append("\nSave delay (ms) : " + saveDelayMillis);
         return sb.toString();
     }
 
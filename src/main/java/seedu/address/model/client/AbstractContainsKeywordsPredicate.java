@@ -1,8 +1,14 @@
 package seedu.address.model.client;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -11,17 +17,58 @@ import seedu.address.commons.util.ToStringBuilder;
 public abstract class AbstractContainsKeywordsPredicate implements Predicate<Client> {
     protected final List<String> keywords;
 
+    /** The keywords trimmed and case-folded once, so that testing a client does not allocate. */
+    protected final List<String> foldedKeywords;
+
+    /**
+     * Constructs a predicate over the given keywords.
+     */
     public AbstractContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = keywords.stream()
+                .map(keyword -> StringUtil.foldCase(keyword.trim()))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Returns true if the name or any tag of {@code client} contains {@code foldedKeyword} as a whole word.
+     */
+    protected static boolean isNameOrTagMatch(Client client, String foldedKeyword) {
+        return client.getName().containsFoldedWord(foldedKeyword)
+                || client.hasTagContainingFoldedWord(foldedKeyword);
     }
 
+    /**
+     * Returns the clients in {@code index} that satisfy this predicate.
+     * The result is looked up from the postings of the keywords, so it agrees with {@link #test(Object)} without
+     * testing every client.
+     */
+    public abstract Set<Client> findMatches(ClientSearchIndex index);
+
+    /**
+     * Returns true if every client that satisfies this predicate also satisfies {@code other}, so that the clients
+     * matching this predicate can be found among those matching {@code other}.
+     * Only narrowings that follow from the keywords alone are recognised.
+     */
+    public boolean isNarrowingOf(AbstractContainsKeywordsPredicate other) {
+        requireNonNull(other);
+        return foldedKeywords.isEmpty() || narrows(other);
+    }
+
+    /**
+     * Returns true if every client that satisfies this predicate, which has at least one keyword, also satisfies
+     * {@code other}.
+     */
+    protected abstract boolean narrows(AbstractContainsKeywordsPredicate other);
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
             return true;
         }
 
-        if (!(other instanceof AbstractContainsKeywordsPredicate)) {
+        // predicates of different kinds match different clients even with the same keywords
+        if (other == null || other.getClass() != getClass()) {
             return false;
         }
 
@@ -29,6 +76,11 @@ public abstract class AbstractContainsKeywordsPredicate implements Predicate<Cli
         return keywords.equals(otherPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), keywords);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.AddClientCommand;
 
 /**
@@ -24,6 +27,8 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "\\s*\\S.*\\S?\\s*|\\S+";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -32,12 +37,29 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, false);
+    }
+
+    private Address(String address, boolean isTrusted) {
         requireNonNull(address);
+        if (isTrusted) {
+            value = address;
+            return;
+        }
         String normalizedAddress = normalizeAddress(address);
         checkArgument(isValidAddress(normalizedAddress), MESSAGE_CONSTRAINTS);
         value = normalizedAddress;
     }
 
+    /**
+     * Returns an {@code Address} with the given value, which must be the {@link #value} of an {@code Address}
+     * constructed before. The value is not normalized or validated again, so this is only for addresses read back
+     * from data that the app wrote itself and has checked to be intact.
+     */
+    public static Address fromTrusted(String value) {
+        return new Address(value, true);
+    }
+
     /**
      * Processes the address to modify it stylistically
      *
@@ -66,8 +88,7 @@ public class Address {
      * Returns true if a given string is a valid address.
      */
     public static boolean isValidAddress(String test) {
-        String addressWithoutWhitespace = test.replaceAll("\\s+", "");
-        return test.matches(VALIDATION_REGEX) && addressWithoutWhitespace.length() <= 150;
+        return VALIDATION_PATTERN.matcher(test).matches() && StringUtil.lengthWithoutWhitespace(test) <= 150;
     }
 
     @Override
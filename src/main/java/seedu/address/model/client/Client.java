@@ -8,6 +8,7 @@ import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.PriorityTag;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -25,6 +26,9 @@ public class Client {
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
 
+    private final ClientIdentity identity;
+    private final boolean isPriority;
+
     /**
      * Every field must be present and not null.
      */
@@ -35,6 +39,8 @@ public class Client {
         this.email = email;
         this.address = address;
         this.tags.addAll(tags);
+        this.identity = new ClientIdentity(name, phone, email, address);
+        this.isPriority = this.tags.stream().anyMatch(tag -> tag instanceof PriorityTag);
     }
 
     public Name getName() {
@@ -53,6 +59,13 @@ public class Client {
         return address;
     }
 
+    /**
+     * Returns true if this client has a priority tag.
+     */
+    public boolean isPriority() {
+        return isPriority;
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -61,6 +74,27 @@ public class Client {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns true if any of this client's tags contains {@code foldedWord} as a whole word.
+     *
+     * @param foldedWord a single word already case-folded with {@code StringUtil#foldCase(String)}.
+     */
+    public boolean hasTagContainingFoldedWord(String foldedWord) {
+        for (Tag tag : tags) {
+            if (tag.containsFoldedWord(foldedWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the hashable identity of this client, consistent with {@link #isSameClient(Client)}.
+     */
+    ClientIdentity getIdentity() {
+        return identity;
+    }
+
     /**
      * Returns true if both clients have the same name.
      * This defines a weaker notion of equality between two clients.
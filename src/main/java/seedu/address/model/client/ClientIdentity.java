@@ -0,0 +1,48 @@
+package seedu.address.model.client;
+
+import java.util.Objects;
+
+/**
+ * Hashable key over the identity fields of a {@code Client}.
+ * Two clients have equal identities if and only if {@code Client#isSameClient(Client)} holds between them.
+ */
+final class ClientIdentity {
+
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
+    private final Address address;
+    private final int hash;
+
+    ClientIdentity(Name name, Phone phone, Email email, Address address) {
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.hash = Objects.hash(name, phone, email, address);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ClientIdentity)) {
+            return false;
+        }
+
+        ClientIdentity otherIdentity = (ClientIdentity) other;
+        return hash == otherIdentity.hash
+                && name.equals(otherIdentity.name)
+                && address.equals(otherIdentity.address)
+                && email.equals(otherIdentity.email)
+                && phone.equals(otherIdentity.phone);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Inverted indexes over the words in the names and tags of the clients in a {@code UniqueClientList}.
+ * Words are matched whole and case-insensitively, in the same way as {@link StringUtil#containsWordIgnoreCase}, so
+ * keyword searches can be answered from the postings of their keywords instead of by testing every client.
+ * Queries take words already case-folded with {@link StringUtil#foldCase(String)}.
+ * The index is kept up to date by the owning {@code UniqueClientList}.
+ */
+public class ClientSearchIndex {
+
+    private final WordIndex nameWords = new WordIndex();
+    private final WordIndex tagWords = new WordIndex();
+
+    void add(Client client) {
+        nameWords.add(client, nameWordsOf(client));
+        tagWords.add(client, tagWordsOf(client));
+    }
+
+    void remove(Client client) {
+        nameWords.remove(client, nameWordsOf(client));
+        tagWords.remove(client, tagWordsOf(client));
+    }
+
+    void clear() {
+        nameWords.clear();
+        tagWords.clear();
+    }
+
+    /**
+     * Returns the clients whose name contains any of the {@code words}, or a word starting with any of the
+     * {@code prefixes}.
+     *
+     * @param words case-folded words to match whole.
+     * @param prefixes case-folded word prefixes.
+     */
+    public Set<Client> findByNameWithAnyWord(List<String> words, List<String> prefixes) {
+        requireAllNonNull(words, prefixes);
+        Set<Client> matches = WordIndex.newPostingSet();
+        for (String word : words) {
+            matches.addAll(nameWords.get(word));
+        }
+        for (String prefix : prefixes) {
+            nameWords.addClientsWithPrefix(prefix, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the clients whose name or tags contain any of the case-folded {@code words}.
+     */
+    public Set<Client> findWithAnyWord(List<String> words) {
+        requireNonNull(words);
+        Set<Client> matches = WordIndex.newPostingSet();
+        for (String word : words) {
+            matches.addAll(nameWords.get(word));
+            matches.addAll(tagWords.get(word));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the clients whose name or tags contain every one of the case-folded {@code words}.
+     * Only the postings of the rarest word are visited; every other word is checked by membership.
+     */
+    public Set<Client> findWithAllWords(List<String> words) {
+        requireNonNull(words);
+        Set<Client> matches = WordIndex.newPostingSet();
+        if (words.isEmpty()) {
+            return matches;
+        }
+
+        List<Set<Client>> namePostings = new ArrayList<>(words.size());
+        List<Set<Client>> tagPostings = new ArrayList<>(words.size());
+        int rarest = 0;
+        for (int i = 0; i < words.size(); i++) {
+            namePostings.add(nameWords.get(words.get(i)));
+            tagPostings.add(tagWords.get(words.get(i)));
+            if (namePostings.get(i).size() + tagPostings.get(i).size()
+                    < namePostings.get(rarest).size() + tagPostings.get(rarest).size()) {
+                rarest = i;
+            }
+        }
+
+        for (Client candidate : namePostings.get(rarest)) {
+            if (isInAll(candidate, namePostings, tagPostings)) {
+                matches.add(candidate);
+            }
+        }
+        for (Client candidate : tagPostings.get(rarest)) {
+            if (isInAll(candidate, namePostings, tagPostings)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns true if, for every word, {@code client} is in the name postings or the tag postings of that word.
+     */
+    private static boolean isInAll(Client client, List<Set<Client>> namePostings, List<Set<Client>> tagPostings) {
+        for (int i = 0; i < namePostings.size(); i++) {
+            if (!namePostings.get(i).contains(client) && !tagPostings.get(i).contains(client)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> nameWordsOf(Client client) {
+        return client.getName().getFoldedWords();
+    }
+
+    private static Set<String> tagWordsOf(Client client) {
+        Set<String> words = new HashSet<>();
+        for (Tag tag : client.getTags()) {
+            words.addAll(tag.getFoldedWords());
+        }
+        return words;
+    }
+}
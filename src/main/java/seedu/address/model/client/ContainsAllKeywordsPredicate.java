@@ -1,8 +1,9 @@
 package seedu.address.model.client;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
 /**
  * Tests that a {@code Client}'s {@code Name} or {@code Tag} contains all the keywords given.
  * This predicate is equivalent to the AND operations when using find, i.e. strict matching
@@ -15,18 +16,31 @@ public class ContainsAllKeywordsPredicate extends AbstractContainsKeywordsPredic
 
     @Override
     public boolean test(Client client) {
-        if (keywords.isEmpty()) {
+        if (foldedKeywords.isEmpty()) {
             return false; // Ensures empty keyword list returns false like to ContainsKeywordsPredicate
         }
 
-        return keywords.stream()
-                .allMatch(keyword -> isKeywordMatch(client, keyword));
+        for (int i = 0; i < foldedKeywords.size(); i++) {
+            if (!isNameOrTagMatch(client, foldedKeywords.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Set<Client> findMatches(ClientSearchIndex index) {
+        return index.findWithAllWords(foldedKeywords);
     }
 
-    private boolean isKeywordMatch(Client client, String keyword) {
-        boolean nameMatch = StringUtil.containsWordIgnoreCase(client.getName().fullName, keyword);
-        boolean tagMatch = client.getTags().stream()
-                .anyMatch(tag -> StringUtil.containsWordIgnoreCase(tag.tagName, keyword));
-        return nameMatch || tagMatch;
+    @Override
+    protected boolean narrows(AbstractContainsKeywordsPredicate other) {
+        if (other instanceof ContainsAllKeywordsPredicate) {
+            return !other.foldedKeywords.isEmpty() && foldedKeywords.containsAll(other.foldedKeywords);
+        }
+        if (other instanceof ContainsKeywordsPredicate) {
+            return !Collections.disjoint(foldedKeywords, other.foldedKeywords);
+        }
+        return false;
     }
 }
@@ -1,8 +1,8 @@
 package seedu.address.model.client;
 
 import java.util.List;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
 /**
  * Tests that a {@code Client}'s {@code Name} or {@code Tag} matches any of the keywords given.
  * This predicate is equilivant to the OR operations when using find, i.e. loose matching
@@ -15,14 +15,21 @@ public class ContainsKeywordsPredicate extends AbstractContainsKeywordsPredicate
 
     @Override
     public boolean test(Client client) {
-        return keywords.stream()
-                .anyMatch(keyword -> isKeywordMatch(client, keyword));
+        for (int i = 0; i < foldedKeywords.size(); i++) {
+            if (isNameOrTagMatch(client, foldedKeywords.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private boolean isKeywordMatch(Client client, String keyword) {
-        boolean nameMatch = StringUtil.containsWordIgnoreCase(client.getName().fullName, keyword);
-        boolean tagMatch = client.getTags().stream()
-                .anyMatch(tag -> StringUtil.containsWordIgnoreCase(tag.tagName, keyword));
-        return nameMatch || tagMatch;
+    @Override
+    public Set<Client> findMatches(ClientSearchIndex index) {
+        return index.findWithAnyWord(foldedKeywords);
+    }
+
+    @Override
+    protected boolean narrows(AbstractContainsKeywordsPredicate other) {
+        return other instanceof ContainsKeywordsPredicate && other.foldedKeywords.containsAll(foldedKeywords);
     }
 }
@@ -4,6 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.AddClientCommand;
 
 
@@ -22,60 +27,176 @@ public class Name {
 
     public static final String VALIDATION_REGEX = "[\\p{L}\\p{N}]+([ '-/@]+[\\p{L}\\p{N}]+)*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String fullName;
 
+    /** The case-folded words of {@code fullName}, computed once as names are immutable. */
+    private final List<String> foldedWords;
+
     /**
      * Constructs a {@code Name}.
      *
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    private Name(String name, boolean isTrusted) {
         requireNonNull(name);
-        String normalizedName = normalizeName(name);
-        checkArgument(isValidName(normalizedName),
-                MESSAGE_CONSTRAINTS);
-        fullName = normalizedName;
+        if (isTrusted) {
+            fullName = name;
+        } else {
+            String normalizedName = normalizeName(name);
+            checkArgument(isValidName(normalizedName),
+                    MESSAGE_CONSTRAINTS);
+            fullName = normalizedName;
+        }
+        foldedWords = StringUtil.foldedWordsOf(fullName);
+    }
+
+    /**
+     * Returns a {@code Name} with the given full name, which must be the {@link #fullName} of a {@code Name}
+     * constructed before. The name is not normalized or validated again, so this is only for names read back from
+     * data that the app wrote itself and has checked to be intact.
+     */
+    public static Name fromTrusted(String fullName) {
+        return new Name(fullName, true);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        String nameWithoutWhitespace = test.replaceAll("\\s+", "");
-        return test.matches(VALIDATION_REGEX) && nameWithoutWhitespace.length() <= 150;
+        return VALIDATION_PATTERN.matcher(test).matches() && StringUtil.lengthWithoutWhitespace(test) <= 150;
     }
 
     /**
-     * Processes the name to deal with casing and whitespace
+     * Processes the name to deal with casing and whitespace.
+     * The name is split into words at whitespace, after every {@code ,} and {@code .}, and around every {@code @}.
+     * Each word is title-cased, except that {@code s/o} and {@code d/o} are kept in lower case, and the words are
+     * joined with single spaces, except that words starting with {@code ,} or {@code .} follow the word before them
+     * directly. Leading and trailing whitespace and control characters are removed.
+     * The name is read once, and the result built up in one buffer.
      *
      * @param name The input name
      * @return The processed name
      */
-    private String normalizeName(String name) {
-        name = name.replaceAll("([,.@])(?!\\s)", "$1 ");
-        name = name.replaceAll("(?<!\\s)@", " @ ");
-        name = name.replaceAll("\\s+", " ");
-
-        String[] parts = name.trim().split(" ");
-        StringBuilder result = new StringBuilder();
-        for (String part : parts) {
-            if (part.length() > 0) {
-                if (part.length() == 1) {
-                    result.append(part.toUpperCase()).append(" ");
-                } else {
-                    result.append(part.substring(0, 1).toUpperCase())
-                            .append(part.substring(1).toLowerCase()).append(" ");
-                }
+    static String normalizeName(String name) {
+        int start = 0;
+        int end = name.length();
+        while (start < end && name.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && name.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        StringBuilder result = new StringBuilder(end - start + 2);
+        boolean isAsciiCaseMappingSafe = isAsciiCaseMappingSafe();
+        int wordStart = start;
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            if (StringUtil.isRegexWhitespace(c)) {
+                appendWord(result, name, wordStart, i, isAsciiCaseMappingSafe);
+                wordStart = i + 1;
+            } else if (c == ',' || c == '.') {
+                appendWord(result, name, wordStart, i + 1, isAsciiCaseMappingSafe);
+                wordStart = i + 1;
+            } else if (c == '@') {
+                appendWord(result, name, wordStart, i, isAsciiCaseMappingSafe);
+                appendWord(result, name, i, i + 1, isAsciiCaseMappingSafe);
+                wordStart = i + 1;
+            }
+        }
+        appendWord(result, name, wordStart, end, isAsciiCaseMappingSafe);
+        return result.toString();
+    }
+
+    /**
+     * Appends the word between {@code wordStart} and {@code wordEnd} in {@code name}, if it is not empty, to
+     * {@code result}, title-cased as by {@link String#toUpperCase()} and {@link String#toLowerCase()}, with any
+     * {@code s/o} or {@code d/o} in it, in any case, in lower case.
+     */
+    private static void appendWord(StringBuilder result, String name, int wordStart, int wordEnd,
+            boolean isAsciiCaseMappingSafe) {
+        if (wordStart == wordEnd) {
+            return;
+        }
+        char first = name.charAt(wordStart);
+        if (result.length() > 0 && first != ',' && first != '.') {
+            result.append(' ');
+        }
+
+        int titleCasedStart = result.length();
+        if (isAsciiCaseMappingSafe && isAscii(name, wordStart, wordEnd)) {
+            result.append(Character.toUpperCase(first));
+            for (int i = wordStart + 1; i < wordEnd; i++) {
+                result.append(Character.toLowerCase(name.charAt(i)));
+            }
+        } else {
+            // characters outside ASCII may change length or depend on the characters around them
+            result.append(name.substring(wordStart, wordStart + 1).toUpperCase())
+                    .append(name.substring(wordStart + 1, wordEnd).toLowerCase());
+        }
+
+        for (int i = titleCasedStart; i + 2 < result.length(); i++) {
+            char c = result.charAt(i);
+            char o = result.charAt(i + 2);
+            if ((c == 's' || c == 'S' || c == 'd' || c == 'D') && result.charAt(i + 1) == '/'
+                    && (o == 'o' || o == 'O')) {
+                result.setCharAt(i, Character.toLowerCase(c));
+                result.setCharAt(i + 2, 'o');
+                i += 2;
+            }
+        }
+    }
+
+    private static boolean isAscii(String s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (s.charAt(i) >= 0x80) {
+                return false;
             }
         }
+        return true;
+    }
+
+    /**
+     * Returns true if title-casing ASCII characters one at a time gives the same result as {@link String#toUpperCase()}
+     * and {@link String#toLowerCase()} in the default locale, which is not so for the dotted and dotless i of Turkish
+     * and Azerbaijani.
+     */
+    private static boolean isAsciiCaseMappingSafe() {
+        String language = Locale.getDefault().getLanguage();
+        return !language.equals("tr") && !language.equals("az");
+    }
 
-        name = result.toString().trim();
-        name = name.replaceAll("(?i)s/o", "s/o");
-        name = name.replaceAll("(?i)d/o", "d/o");
-        name = name.replaceAll(" \\.", "\\.");
-        name = name.replaceAll(" ,", ",");
-        name = name.replaceAll("\\s+", " ");
-        return name.trim();
+    /**
+     * Returns the case-folded words of this name, in order.
+     */
+    public List<String> getFoldedWords() {
+        return foldedWords;
+    }
+
+    /**
+     * Returns true if this name contains {@code foldedWord} as a whole word.
+     * Does not allocate.
+     *
+     * @param foldedWord a single word already case-folded with {@link StringUtil#foldCase(String)}.
+     */
+    public boolean containsFoldedWord(String foldedWord) {
+        return StringUtil.containsFoldedWord(foldedWords, foldedWord);
+    }
+
+    /**
+     * Returns true if this name contains a word starting with {@code foldedPrefix}.
+     * Does not allocate.
+     *
+     * @param foldedPrefix a prefix already case-folded with {@link StringUtil#foldCase(String)}.
+     */
+    public boolean containsFoldedWordWithPrefix(String foldedPrefix) {
+        return StringUtil.containsFoldedWordWithPrefix(foldedWords, foldedPrefix);
     }
 
     @Override
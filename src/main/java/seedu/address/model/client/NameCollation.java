@@ -0,0 +1,81 @@
+package seedu.address.model.client;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.Collator;
+import java.util.Locale;
+import java.util.Objects;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Turns client names into byte sort keys, so that sorting compares precomputed keys bytewise instead of collating
+ * the names again on every comparison.
+ * By default, names are ordered case-insensitively, as by {@link String#CASE_INSENSITIVE_ORDER}. A locale-aware
+ * collation can be used instead to order names by the conventions of a language.
+ */
+public class NameCollation {
+
+    public static final NameCollation CASE_INSENSITIVE = new NameCollation(null);
+
+    private final Collator collator;
+
+    private NameCollation(Collator collator) {
+        this.collator = collator;
+    }
+
+    /**
+     * Returns the collation of the language identified by the IETF BCP 47 {@code languageTag}, ignoring case, or
+     * {@link #CASE_INSENSITIVE} if {@code languageTag} is blank.
+     */
+    public static NameCollation forLanguageTag(String languageTag) {
+        requireNonNull(languageTag);
+        if (languageTag.isBlank()) {
+            return CASE_INSENSITIVE;
+        }
+
+        Collator collator = Collator.getInstance(Locale.forLanguageTag(languageTag.trim()));
+        collator.setStrength(Collator.SECONDARY);
+        return new NameCollation(collator);
+    }
+
+    /**
+     * Returns the sort key of {@code name}. Names are in order exactly when their keys are, comparing the keys as
+     * unsigned bytes.
+     */
+    byte[] sortKeyOf(Name name) {
+        if (collator != null) {
+            return collator.getCollationKey(name.fullName).toByteArray();
+        }
+
+        // Folded characters in big-endian order compare as unsigned bytes like the characters themselves.
+        String folded = StringUtil.foldCase(name.fullName);
+        byte[] key = new byte[folded.length() * 2];
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            key[2 * i] = (byte) (c >>> 8);
+            key[2 * i + 1] = (byte) c;
+        }
+        return key;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameCollation)) {
+            return false;
+        }
+
+        NameCollation otherCollation = (NameCollation) other;
+        return Objects.equals(collator, otherCollation.collator);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(collator);
+    }
+}
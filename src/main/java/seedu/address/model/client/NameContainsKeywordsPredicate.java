@@ -1,21 +1,89 @@
 package seedu.address.model.client;
 
+import java.util.ArrayList;
 import java.util.List;
-
-import seedu.address.commons.util.StringUtil;
+import java.util.Set;
 
 /**
  * Tests that a {@code Client}'s {@code Name} matches any of the keywords given.
+ * A keyword ending with {@value #PREFIX_WILDCARD}, such as {@code tan*}, matches any word in the name that starts
+ * with the rest of the keyword.
  */
 public class NameContainsKeywordsPredicate extends AbstractContainsKeywordsPredicate {
 
+    public static final String PREFIX_WILDCARD = "*";
+
+    private final List<String> foldedWords = new ArrayList<>();
+    private final List<String> foldedPrefixes = new ArrayList<>();
+
+    /**
+     * Constructs a predicate over the given keywords.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         super(keywords);
+        for (String foldedKeyword : foldedKeywords) {
+            if (isPrefixKeyword(foldedKeyword)) {
+                foldedPrefixes.add(foldedKeyword.substring(0, foldedKeyword.length() - PREFIX_WILDCARD.length()));
+            } else {
+                foldedWords.add(foldedKeyword);
+            }
+        }
+    }
+
+    private static boolean isPrefixKeyword(String keyword) {
+        return keyword.length() > PREFIX_WILDCARD.length() && keyword.endsWith(PREFIX_WILDCARD);
     }
 
     @Override
     public boolean test(Client client) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(client.getName().fullName, keyword));
+        Name name = client.getName();
+        for (int i = 0; i < foldedWords.size(); i++) {
+            if (name.containsFoldedWord(foldedWords.get(i))) {
+                return true;
+            }
+        }
+        for (int i = 0; i < foldedPrefixes.size(); i++) {
+            if (name.containsFoldedWordWithPrefix(foldedPrefixes.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Client> findMatches(ClientSearchIndex index) {
+        return index.findByNameWithAnyWord(foldedWords, foldedPrefixes);
+    }
+
+    @Override
+    protected boolean narrows(AbstractContainsKeywordsPredicate other) {
+        if (other instanceof ContainsKeywordsPredicate) {
+            return foldedPrefixes.isEmpty() && other.foldedKeywords.containsAll(foldedWords);
+        }
+        if (!(other instanceof NameContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        NameContainsKeywordsPredicate otherPredicate = (NameContainsKeywordsPredicate) other;
+        for (String word : foldedWords) {
+            if (!otherPredicate.foldedWords.contains(word) && !otherPredicate.hasPrefixOf(word)) {
+                return false;
+            }
+        }
+        for (String prefix : foldedPrefixes) {
+            if (!otherPredicate.hasPrefixOf(prefix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasPrefixOf(String foldedWord) {
+        for (String prefix : foldedPrefixes) {
+            if (foldedWord.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
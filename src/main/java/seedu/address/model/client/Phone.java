@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Client's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -21,6 +23,11 @@ public class Phone {
                             + "The number should be 3-13 digits long.");
 
     public static final String VALIDATION_REGEX = "^(\\+?\\d{1,3} )?(\\d\\s?){3,13}$";
+
+    private static final int MAX_COUNTRY_CODE_LENGTH = 3;
+    private static final int MIN_NUMBER_LENGTH = 3;
+    private static final int MAX_NUMBER_LENGTH = 13;
+
     public final String value;
 
     /**
@@ -29,10 +36,27 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, false);
+    }
+
+    private Phone(String phone, boolean isTrusted) {
         requireNonNull(phone);
+        if (isTrusted) {
+            value = phone;
+            return;
+        }
         String processedPhone = processPhone(phone);
         checkArgument(isValidPhone(processedPhone), MESSAGE_CONSTRAINTS);
-        value = processPhone(phone);
+        value = processedPhone;
+    }
+
+    /**
+     * Returns a {@code Phone} with the given value, which must be the {@link #value} of a {@code Phone} constructed
+     * before. The value is not processed or validated again, so this is only for phone numbers read back from data
+     * that the app wrote itself and has checked to be intact.
+     */
+    public static Phone fromTrusted(String value) {
+        return new Phone(value, true);
     }
 
     /**
@@ -66,9 +90,50 @@ public class Phone {
 
     /**
      * Returns true if a given string is a valid phone number.
+     * That is, it matches {@code VALIDATION_REGEX}, or is {@code "-"}. The characters are checked one at a time
+     * instead of with the regex, as phone numbers are checked very often.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX) || test.equals("-");
+        if (test.equals("-") || isNumber(test, 0)) {
+            return true;
+        }
+
+        // an international code, optionally after a '+', followed by a single space and the number
+        int codeStart = test.startsWith("+") ? 1 : 0;
+        for (int i = codeStart; i < test.length() && i - codeStart <= MAX_COUNTRY_CODE_LENGTH; i++) {
+            char c = test.charAt(i);
+            if (c == ' ' && i > codeStart) {
+                return isNumber(test, i + 1);
+            }
+            if (!isAsciiDigit(c)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} onwards are a number, which is between
+     * {@code MIN_NUMBER_LENGTH} and {@code MAX_NUMBER_LENGTH} digits that may each be followed by one whitespace.
+     */
+    private static boolean isNumber(String test, int start) {
+        int digitCount = 0;
+        int i = start;
+        while (i < test.length()) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+            digitCount++;
+            i++;
+            if (i < test.length() && StringUtil.isRegexWhitespace(test.charAt(i))) {
+                i++;
+            }
+        }
+        return digitCount >= MIN_NUMBER_LENGTH && digitCount <= MAX_NUMBER_LENGTH;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     @Override
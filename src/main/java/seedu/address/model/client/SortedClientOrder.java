@@ -0,0 +1,117 @@
+package seedu.address.model.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The clients of a {@code UniqueClientList} kept sorted by a byte sort key.
+ * The key of each client is computed once, when the client is added, and keys are compared as unsigned bytes.
+ * Clients are placed by binary search as they are added, after any clients with the same key, so the order is the
+ * one a stable sort of the clients in the order they were added would give.
+ */
+class SortedClientOrder {
+
+    private final Function<Client, byte[]> sortKeyOf;
+    private final List<Client> clients;
+    private final List<byte[]> keys;
+
+    /**
+     * Creates an order over {@code clients}, sorted stably by the keys given by {@code sortKeyOf}.
+     */
+    SortedClientOrder(Function<Client, byte[]> sortKeyOf, List<Client> clients) {
+        this.sortKeyOf = sortKeyOf;
+
+        KeyedClient[] entries = new KeyedClient[clients.size()];
+        for (int i = 0; i < clients.size(); i++) {
+            entries[i] = new KeyedClient(sortKeyOf.apply(clients.get(i)), clients.get(i));
+        }
+        Arrays.sort(entries, Comparator.comparing(entry -> entry.key, Arrays::compareUnsigned));
+
+        this.clients = new ArrayList<>(entries.length);
+        this.keys = new ArrayList<>(entries.length);
+        for (KeyedClient entry : entries) {
+            this.keys.add(entry.key);
+            this.clients.add(entry.client);
+        }
+    }
+
+    /**
+     * Inserts {@code client} in sorted position and returns its position.
+     */
+    int add(Client client) {
+        byte[] key = sortKeyOf.apply(client);
+        int position = upperBound(key);
+        clients.add(position, client);
+        keys.add(position, key);
+        return position;
+    }
+
+    /**
+     * Removes {@code client}, which must be in this order, and returns its former position.
+     */
+    int remove(Client client) {
+        for (int i = lowerBound(sortKeyOf.apply(client)); i < clients.size(); i++) {
+            if (clients.get(i) == client) {
+                clients.remove(i);
+                keys.remove(i);
+                return i;
+            }
+        }
+        throw new AssertionError("Client is not in this order");
+    }
+
+    /**
+     * Returns an unmodifiable view of the clients in sorted order.
+     */
+    List<Client> asUnmodifiableList() {
+        return Collections.unmodifiableList(clients);
+    }
+
+    /**
+     * Returns the first position whose key is not less than {@code key}.
+     */
+    private int lowerBound(byte[] key) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Arrays.compareUnsigned(keys.get(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first position whose key is greater than {@code key}.
+     */
+    private int upperBound(byte[] key) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Arrays.compareUnsigned(keys.get(mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static class KeyedClient {
+        private final byte[] key;
+        private final Client client;
+
+        KeyedClient(byte[] key, Client client) {
+            this.key = key;
+            this.client = client;
+        }
+    }
+}
@@ -3,15 +3,15 @@ package seedu.address.model.client;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.client.exceptions.ClientNotFoundException;
 import seedu.address.model.client.exceptions.DuplicateClientException;
-import seedu.address.model.tag.PriorityTag;
 /**
  * A list of clients that enforces uniqueness between its elements and does not allow nulls.
  * A client is considered unique by comparing using {@code Client#isSameClient(Client)}. As such, adding and updating of
@@ -19,6 +19,17 @@ import seedu.address.model.tag.PriorityTag;
  * unique in terms of identity in the UniqueClientList. However, the removal of a client uses Client#equals(Object) so
  * as to ensure that the client with exactly the same fields will be removed.
  *
+ * The identities of all clients in the list are also kept in a hash index that maps each identity to its position in
+ * the list, so that identity checks and single-client updates do not need to scan the list. Removals and sorts only
+ * mark positions as stale; stale positions are renumbered lazily the next time one of them is looked up.
+ * The words in the names and tags of all clients are indexed in a {@link ClientSearchIndex}, which is updated before
+ * every change to the backing list so that listeners of the list always see a consistent index.
+ *
+ * Once the list has been sorted, the clients are also kept in name order and in priority order, each updated by
+ * binary insertion. The list stays in the order it was last sorted in: added and edited clients are placed in sorted
+ * position, and switching between the two orders copies the maintained order without comparing any clients.
+ * Both orders compare precomputed sort keys from a {@link NameCollation}.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Client#isSameClient(Client)
@@ -28,13 +39,28 @@ public class UniqueClientList implements Iterable<Client> {
     private final ObservableList<Client> internalList = FXCollections.observableArrayList();
     private final ObservableList<Client> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<ClientIdentity, Integer> positions = new HashMap<>();
+
+    /** Positions at or after this index may be out of date. */
+    private int firstStalePosition = Integer.MAX_VALUE;
+
+    private final ClientSearchIndex searchIndex = new ClientSearchIndex();
+
+    private NameCollation nameCollation = NameCollation.CASE_INSENSITIVE;
+
+    /** The clients in name order and in priority order, or null if the list has not been sorted since it was set. */
+    private SortedClientOrder nameOrder;
+    private SortedClientOrder priorityOrder;
+
+    /** The order the list is kept in, or null if clients are kept in the order they were added. */
+    private SortedClientOrder activeOrder;
 
     /**
      * Returns true if the list contains an equivalent client as the given argument.
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameClient);
+        return positions.containsKey(toCheck.getIdentity());
     }
 
     /**
@@ -46,7 +72,17 @@ public class UniqueClientList implements Iterable<Client> {
         if (contains(toAdd)) {
             throw new DuplicateClientException();
         }
-        internalList.add(toAdd);
+
+        int index = internalList.size();
+        if (nameOrder != null) {
+            int nameIndex = nameOrder.add(toAdd);
+            int priorityIndex = priorityOrder.add(toAdd);
+            index = activeOrder == nameOrder ? nameIndex : activeOrder == priorityOrder ? priorityIndex : index;
+        }
+        positions.put(toAdd.getIdentity(), index);
+        firstStalePosition = Math.min(firstStalePosition, index + 1);
+        searchIndex.add(toAdd);
+        internalList.add(index, toAdd);
     }
 
     /**
@@ -57,7 +93,7 @@ public class UniqueClientList implements Iterable<Client> {
     public void setClient(Client target, Client editedClient) {
         requireAllNonNull(target, editedClient);
 
-        int index = internalList.indexOf(target);
+        int index = indexOfEqual(target);
         if (index == -1) {
             throw new ClientNotFoundException();
         }
@@ -66,11 +102,38 @@ public class UniqueClientList implements Iterable<Client> {
             throw new DuplicateClientException();
         }
 
-        internalList.set(index, editedClient);
+        Client replaced = internalList.get(index);
+        int newIndex = index;
+        if (nameOrder != null) {
+            nameOrder.remove(replaced);
+            priorityOrder.remove(replaced);
+            int nameIndex = nameOrder.add(editedClient);
+            int priorityIndex = priorityOrder.add(editedClient);
+            newIndex = activeOrder == nameOrder ? nameIndex : activeOrder == priorityOrder ? priorityIndex : index;
+        }
+
+        positions.remove(target.getIdentity());
+        positions.put(editedClient.getIdentity(), newIndex);
+        searchIndex.remove(replaced);
+        searchIndex.add(editedClient);
+        if (newIndex == index) {
+            internalList.set(index, editedClient);
+        } else {
+            firstStalePosition = Math.min(firstStalePosition, Math.min(index, newIndex));
+            internalList.remove(index);
+            internalList.add(newIndex, editedClient);
+        }
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setClients(UniqueClientList replacement) {
         requireNonNull(replacement);
+        positions = positionsOf(replacement.internalList);
+        firstStalePosition = Integer.MAX_VALUE;
+        clearSortedOrders();
+        rebuildSearchIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -80,10 +143,10 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void setClients(List<Client> clients) {
         requireAllNonNull(clients);
-        if (!clientsAreUnique(clients)) {
-            throw new DuplicateClientException();
-        }
-
+        positions = positionsOf(clients);
+        firstStalePosition = Integer.MAX_VALUE;
+        clearSortedOrders();
+        rebuildSearchIndex(clients);
         internalList.setAll(clients);
     }
 
@@ -93,22 +156,124 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void remove(Client toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOfEqual(toRemove);
+        if (index == -1) {
             throw new ClientNotFoundException();
         }
+
+        Client removed = internalList.get(index);
+        if (nameOrder != null) {
+            nameOrder.remove(removed);
+            priorityOrder.remove(removed);
+        }
+        positions.remove(toRemove.getIdentity());
+        firstStalePosition = Math.min(firstStalePosition, index);
+        searchIndex.remove(removed);
+        internalList.remove(index);
     }
 
+    /**
+     * Sorts all clients in the list in case-insensitive alphabetical order.
+     * Clients added or edited afterwards are kept in this order.
+     */
     public void sort() {
-        internalList.sort(Comparator.comparing(client -> client.getName().fullName, String.CASE_INSENSITIVE_ORDER));
+        ensureSortedOrders();
+        switchTo(nameOrder);
     }
 
     /**
      * Sorts all clients in the list in priority order.
+     * Clients added or edited afterwards are kept in this order.
      */
     public void sortClientsByPriority() {
-        internalList.sort(Comparator.comparing((Client client)
-            -> client.getTags().stream().noneMatch(tag -> tag instanceof PriorityTag))
-                .thenComparing(client -> client.getName().fullName, String.CASE_INSENSITIVE_ORDER));
+        ensureSortedOrders();
+        switchTo(priorityOrder);
+    }
+
+    /**
+     * Orders client names by {@code collation} from now on.
+     * If the list is kept sorted, it is sorted again in the same way by the new collation.
+     *
+     * @return true if the list was sorted again, so that its order may have changed.
+     */
+    public boolean setNameCollation(NameCollation collation) {
+        requireNonNull(collation);
+        if (collation.equals(nameCollation)) {
+            return false;
+        }
+
+        boolean wasSortedByName = activeOrder != null && activeOrder == nameOrder;
+        boolean wasSortedByPriority = activeOrder != null && activeOrder == priorityOrder;
+        nameCollation = collation;
+        clearSortedOrders();
+        if (wasSortedByName) {
+            sort();
+        } else if (wasSortedByPriority) {
+            sortClientsByPriority();
+        }
+        return wasSortedByName || wasSortedByPriority;
+    }
+
+    private void ensureSortedOrders() {
+        if (nameOrder == null) {
+            nameOrder = new SortedClientOrder(this::nameKeyOf, internalList);
+            priorityOrder = new SortedClientOrder(this::priorityKeyOf, internalList);
+        }
+    }
+
+    private byte[] nameKeyOf(Client client) {
+        return nameCollation.sortKeyOf(client.getName());
+    }
+
+    /**
+     * Returns the name key of {@code client} after a leading byte that puts priority clients first.
+     */
+    private byte[] priorityKeyOf(Client client) {
+        byte[] nameKey = nameKeyOf(client);
+        byte[] key = new byte[nameKey.length + 1];
+        key[0] = (byte) (client.isPriority() ? 0 : 1);
+        System.arraycopy(nameKey, 0, key, 1, nameKey.length);
+        return key;
+    }
+
+    private void switchTo(SortedClientOrder order) {
+        if (activeOrder == order) {
+            return; // the list is already kept in this order
+        }
+        activeOrder = order;
+        firstStalePosition = 0;
+        internalList.setAll(order.asUnmodifiableList());
+    }
+
+    private void clearSortedOrders() {
+        nameOrder = null;
+        priorityOrder = null;
+        activeOrder = null;
+    }
+
+    /**
+     * Returns the position in the list of the client with the same identity as {@code client},
+     * or -1 if there is no such client.
+     */
+    public int indexOf(Client client) {
+        requireNonNull(client);
+        Integer position = positions.get(client.getIdentity());
+        if (position == null) {
+            return -1;
+        }
+
+        if (position >= firstStalePosition && !isAtPosition(client, position)) {
+            renumberStalePositions();
+            position = positions.get(client.getIdentity());
+        }
+        return position;
+    }
+
+    /**
+     * Returns the word index over the names and tags of the clients in this list.
+     */
+    public ClientSearchIndex getSearchIndex() {
+        return searchIndex;
     }
 
     /**
@@ -124,17 +289,46 @@ public class UniqueClientList implements Iterable<Client> {
     }
 
     /**
-     * Returns true if {@code clients} contains only unique clients.
+     * Returns the position of the client in the list that is equal to {@code client} in all fields,
+     * or -1 if there is no such client.
+     */
+    private int indexOfEqual(Client client) {
+        int position = indexOf(client);
+        return position != -1 && internalList.get(position).equals(client) ? position : -1;
+    }
+
+    private boolean isAtPosition(Client client, int position) {
+        return position < internalList.size() && internalList.get(position).isSameClient(client);
+    }
+
+    /**
+     * Recomputes the positions of all clients from {@code firstStalePosition} onwards.
+     */
+    private void renumberStalePositions() {
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getIdentity(), i);
+        }
+        firstStalePosition = Integer.MAX_VALUE;
+    }
+
+    private void rebuildSearchIndex(List<Client> clients) {
+        searchIndex.clear();
+        clients.forEach(searchIndex::add);
+    }
+
+    /**
+     * Returns the positions of {@code clients} keyed by identity, checked for uniqueness in a single pass.
+     *
+     * @throws DuplicateClientException if {@code clients} contains two clients with the same identity.
      */
-    private boolean clientsAreUnique(List<Client> clients) {
-        for (int i = 0; i < clients.size() - 1; i++) {
-            for (int j = i + 1; j < clients.size(); j++) {
-                if (clients.get(i).isSameClient(clients.get(j))) {
-                    return false;
-                }
+    private static Map<ClientIdentity, Integer> positionsOf(List<Client> clients) {
+        Map<ClientIdentity, Integer> clientPositions = new HashMap<>(Math.max(16, (int) (clients.size() / .75f) + 1));
+        for (int i = 0; i < clients.size(); i++) {
+            if (clientPositions.putIfAbsent(clients.get(i).getIdentity(), i) != null) {
+                throw new DuplicateClientException();
             }
         }
-        return true;
+        return clientPositions;
     }
 
     @Override
@@ -0,0 +1,84 @@
+package seedu.address.model.client;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An inverted index from case-folded words to the clients whose text contains them.
+ * Postings hold clients by reference, which is sufficient as the clients of a {@code UniqueClientList} are distinct
+ * objects, and avoids hashing every field of a client on each lookup.
+ * The distinct words are also kept in sorted order, so that all words starting with a prefix can be found without
+ * scanning every word.
+ */
+class WordIndex {
+
+    private final Map<String, Set<Client>> postings = new HashMap<>();
+    private final NavigableSet<String> sortedWords = new TreeSet<>();
+
+    /**
+     * Records that {@code client} contains each of the case-folded {@code words}.
+     */
+    void add(Client client, Collection<String> words) {
+        for (String word : words) {
+            postings.computeIfAbsent(word, newWord -> {
+                sortedWords.add(newWord);
+                return newPostingSet();
+            }).add(client);
+        }
+    }
+
+    /**
+     * Removes {@code client} from the postings of each of the case-folded {@code words}.
+     */
+    void remove(Client client, Collection<String> words) {
+        for (String word : words) {
+            Set<Client> clients = postings.get(word);
+            if (clients == null) {
+                continue;
+            }
+            clients.remove(client);
+            if (clients.isEmpty()) {
+                postings.remove(word);
+                sortedWords.remove(word);
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+        sortedWords.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the clients containing the case-folded {@code word}.
+     */
+    Set<Client> get(String word) {
+        Set<Client> clients = postings.get(word);
+        return clients == null ? Collections.emptySet() : Collections.unmodifiableSet(clients);
+    }
+
+    /**
+     * Adds to {@code matches} every client containing a word that starts with the case-folded {@code prefix}.
+     */
+    void addClientsWithPrefix(String prefix, Set<Client> matches) {
+        for (String word : sortedWords.tailSet(prefix, true)) {
+            if (!word.startsWith(prefix)) {
+                break;
+            }
+            matches.addAll(postings.get(word));
+        }
+    }
+
+    /**
+     * Returns a new, empty set that compares clients by reference.
+     */
+    static Set<Client> newPostingSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
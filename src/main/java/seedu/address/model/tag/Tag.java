@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.AddClientCommand;
 
 /**
@@ -17,8 +20,14 @@ public class Tag {
                     + String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     AddClientCommand.MESSAGE_USAGE);
     public static final String VALIDATION_REGEX = "^[\\p{Alnum} .,'~*@%\\-_!?\\+\\*\\$\\[\\]()\"]+$";
+
+    /** The characters other than letters and digits that {@code VALIDATION_REGEX} allows. */
+    private static final String VALID_SYMBOLS = " .,'~*@%-_!?+$[]()\"";
     public final String tagName;
 
+    /** The case-folded words of {@code tagName}, computed once as tags are immutable. */
+    private final List<String> foldedWords;
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -29,14 +38,31 @@ public class Tag {
         String normalizedTag = normalizeTag(tagName);
         checkArgument(isValidTagName(normalizedTag), MESSAGE_CONSTRAINTS);
         this.tagName = normalizedTag;
+        this.foldedWords = StringUtil.foldedWordsOf(normalizedTag);
     }
 
     /**
      * Returns true if a given string is a valid tag name.
+     * That is, apart from its whitespace, it matches {@code VALIDATION_REGEX} and is at most 150 characters long.
+     * The characters are checked one at a time instead of with the regex, as tag names are checked very often.
      */
     public static boolean isValidTagName(String test) {
-        String tagWithoutWhitespace = test.replaceAll("\\s+", "");
-        return tagWithoutWhitespace.matches(VALIDATION_REGEX) && tagWithoutWhitespace.length() <= 150;
+        int lengthWithoutWhitespace = 0;
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (StringUtil.isRegexWhitespace(c)) {
+                continue;
+            }
+            if (!isAsciiLetterOrDigit(c) && VALID_SYMBOLS.indexOf(c) == -1) {
+                return false;
+            }
+            lengthWithoutWhitespace++;
+        }
+        return lengthWithoutWhitespace > 0 && lengthWithoutWhitespace <= 150;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
     }
 
 
@@ -64,6 +90,23 @@ public class Tag {
         return result.toString().trim();
     }
 
+    /**
+     * Returns the case-folded words of this tag's name, in order.
+     */
+    public List<String> getFoldedWords() {
+        return foldedWords;
+    }
+
+    /**
+     * Returns true if this tag's name contains {@code foldedWord} as a whole word.
+     * Does not allocate.
+     *
+     * @param foldedWord a single word already case-folded with {@link StringUtil#foldCase(String)}.
+     */
+    public boolean containsFoldedWord(String foldedWord) {
+        return StringUtil.containsFoldedWord(foldedWords, foldedWord);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
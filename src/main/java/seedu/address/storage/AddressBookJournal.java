@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * An append-only file of the changes made to the clients since an address book snapshot was saved.
+ * The first line holds the checksum of the snapshot the changes apply to, so that a journal left over from an older
+ * snapshot is never replayed onto a newer one. Every following line holds the changes saved together, as a JSON
+ * array, and is forced to disk before {@link #append(List)} returns.
+ */
+class AddressBookJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private final Path filePath;
+
+    AddressBookJournal(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the entries recorded for the snapshot with {@code snapshotChecksum}, in order, each holding the changes
+     * saved together.
+     * Returns {@code Optional.empty()} if there is no journal, or if it belongs to a different snapshot. The journal
+     * ends at the first entry that cannot be read, such as a last entry that was only partly written or has no line
+     * terminator, as the changes in it were never reported as saved. That entry and everything after it are cut off
+     * the journal, so that later entries can be appended after the last complete one.
+     *
+     * @throws IOException if the journal could not be read, or could not be cut short.
+     */
+    Optional<List<List<JsonAdaptedClientChange>>> read(long snapshotChecksum) throws IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        byte[] content = Files.readAllBytes(filePath);
+        List<Integer> lineStarts = lineStartsOf(content);
+        int lineCount = lineStarts.size() - 1;
+
+        if (lineCount == 0 || !lineAt(content, lineStarts, 0).equals(Long.toString(snapshotChecksum))) {
+            logger.info("Ignoring journal " + filePath + " as it does not belong to the current snapshot.");
+            return Optional.empty();
+        }
+
+        List<List<JsonAdaptedClientChange>> entries = new ArrayList<>();
+        for (int i = 1; i < lineCount; i++) {
+            try {
+                entries.add(Arrays.asList(
+                        JsonUtil.fromJsonString(lineAt(content, lineStarts, i), JsonAdaptedClientChange[].class)));
+            } catch (IOException e) {
+                logger.warning("Journal " + filePath + " ends at entry " + i + ", which cannot be read: "
+                        + e.getMessage());
+                break;
+            }
+        }
+
+        int validLength = lineStarts.get(entries.size() + 1);
+        if (validLength < content.length) {
+            logger.warning("Removing incomplete or unreadable entries from the end of journal " + filePath);
+            truncate(validLength);
+        }
+        return Optional.of(entries);
+    }
+
+    /**
+     * Cuts off every entry of the journal after the first {@code entryCount}, such as entries that could be read but
+     * not replayed.
+     */
+    void truncateEntries(int entryCount) throws IOException {
+        List<Integer> lineStarts = lineStartsOf(Files.readAllBytes(filePath));
+        truncate(lineStarts.get(Math.min(entryCount + 1, lineStarts.size() - 1)));
+    }
+
+    /**
+     * Returns the offsets at which each complete line of {@code content} starts, followed by the offset after the
+     * last complete line.
+     */
+    private static List<Integer> lineStartsOf(byte[] content) {
+        List<Integer> lineStarts = new ArrayList<>();
+        lineStarts.add(0);
+        for (int i = 0; i < content.length; i++) {
+            if (content[i] == '\n') {
+                lineStarts.add(i + 1);
+            }
+        }
+        return lineStarts;
+    }
+
+    private static String lineAt(byte[] content, List<Integer> lineStarts, int line) {
+        int start = lineStarts.get(line);
+        return new String(content, start, lineStarts.get(line + 1) - 1 - start, UTF_8);
+    }
+
+    private void truncate(long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Empties the journal and starts it afresh for the snapshot with {@code snapshotChecksum}.
+     */
+    void reset(long snapshotChecksum) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        write(Long.toString(snapshotChecksum) + "\n", StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Appends {@code changes} as a single entry and forces it to disk.
+     * The journal must have been started with {@link #reset(long)}.
+     */
+    void append(List<JsonAdaptedClientChange> changes) throws IOException {
+        write(JsonUtil.toCompactJsonString(changes) + "\n", StandardOpenOption.APPEND);
+    }
+
+    private void write(String content, StandardOpenOption mode) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                mode)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
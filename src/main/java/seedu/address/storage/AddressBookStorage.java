@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -42,4 +43,20 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} in full, so that it can be read back without replaying any
+     * changes recorded since it was last saved in full.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Sets the handler of failures to save that happen after {@link #saveAddressBook(ReadOnlyAddressBook)} has
+     * returned. Storages that finish saving before returning throw their failures instead, and never call it, so
+     * by default the handler is ignored.
+     * @param handler cannot be null.
+     */
+    default void setSaveFailureHandler(Consumer<IOException> handler) {}
+
 }
@@ -0,0 +1,250 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+
+/**
+ * Saves AddressBook data through another {@code AddressBookStorage} on a background thread, so that commands do not
+ * wait for the disk.
+ *
+ * {@link #saveAddressBook(ReadOnlyAddressBook)} only copies the client list and returns. The copy is written on the
+ * background thread once the save delay has passed; if more saves are requested in the meantime, only the latest copy
+ * is written. The clients themselves are shared with the address book saved, as they are immutable. As the write
+ * happens after the save has returned, write failures are passed to the save failure handler instead of being
+ * thrown. Every other operation, reads included, runs on the background thread after the pending save is written,
+ * so {@link #compactAddressBook(ReadOnlyAddressBook)} can be used to flush all saves before the app exits.
+ */
+public class BackgroundAddressBookSaver implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final long saveDelayMillis;
+    private final ScheduledExecutorService saver = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Consumer<IOException> saveFailureHandler = e -> {};
+
+    /** The latest copy of the clients that has yet to be written, or null if every save has been written. */
+    private List<Client> pendingClients;
+
+    /**
+     * Creates a saver that writes through {@code storage} at most once every {@code saveDelayMillis} milliseconds.
+     * {@code storage} must not be used by anything else afterwards.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage storage, long saveDelayMillis) {
+        requireNonNull(storage);
+        checkArgument(saveDelayMillis >= 0, "Save delay cannot be negative");
+        this.storage = storage;
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            return awaitOnSaver(() -> {
+                writePendingSave();
+                return storage.readAddressBook(filePath);
+            });
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            throw new DataLoadingException(ioExceptionOf(e.getCause()));
+        } catch (InterruptedIOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Schedules a copy of {@code addressBook} to be written after the save delay.
+     * Failures to write it are passed to the save failure handler.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        List<Client> clients = List.copyOf(addressBook.getClientList());
+        synchronized (this) {
+            boolean isWriteScheduled = pendingClients != null;
+            pendingClients = clients;
+            if (!isWriteScheduled) {
+                saver.schedule(this::writeScheduledSave, saveDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a file other than the data file is done immediately, after any pending save.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        List<Client> clients = List.copyOf(addressBook.getClientList());
+        runOnSaver(() -> {
+            writePendingSave();
+            storage.saveAddressBook(new ClientListView(clients), filePath);
+        });
+    }
+
+    /**
+     * Writes any pending save, then compacts {@code addressBook} through the underlying storage, waiting for both.
+     */
+    @Override
+    public void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        List<Client> clients = List.copyOf(addressBook.getClientList());
+        runOnSaver(() -> {
+            writePendingSave();
+            storage.compactAddressBook(new ClientListView(clients));
+        });
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    private void writeScheduledSave() {
+        try {
+            writePendingSave();
+        } catch (IOException e) {
+            logger.warning("Failed to save data file in the background: " + e.getMessage());
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    private void writePendingSave() throws IOException {
+        List<Client> clients;
+        synchronized (this) {
+            clients = pendingClients;
+            pendingClients = null;
+        }
+        if (clients != null) {
+            storage.saveAddressBook(new ClientListView(clients));
+        }
+    }
+
+    /**
+     * Runs {@code task} on the saver thread, after every task already submitted, and waits for it to finish.
+     */
+    private void runOnSaver(StorageTask task) throws IOException {
+        try {
+            awaitOnSaver(() -> {
+                task.run();
+                return null;
+            });
+        } catch (ExecutionException e) {
+            throw ioExceptionOf(e.getCause());
+        }
+    }
+
+    /**
+     * Calls {@code task} on the saver thread, after every task already submitted, and returns its result.
+     *
+     * @throws ExecutionException if {@code task} threw an exception.
+     * @throws InterruptedIOException if interrupted while waiting.
+     */
+    private <T> T awaitOnSaver(Callable<T> task) throws ExecutionException, InterruptedIOException {
+        Future<T> result = saver.submit(task);
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the data file to be saved");
+        }
+    }
+
+    /**
+     * Returns {@code cause}, thrown by a task on the saver thread, as an {@code IOException}.
+     * Unchecked exceptions are rethrown as they are.
+     */
+    private static IOException ioExceptionOf(Throwable cause) {
+        if (cause instanceof IOException) {
+            return (IOException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IOException(cause);
+    }
+
+    /**
+     * An unchangeable view of a copy of the clients of an address book, handed to the underlying storage to be
+     * written. Sorting it only reorders the copy.
+     */
+    private static class ClientListView implements ReadOnlyAddressBook {
+
+        private final ObservableList<Client> clients;
+        private final ObservableList<Client> unmodifiableClients;
+
+        ClientListView(List<Client> clients) {
+            this.clients = FXCollections.observableArrayList(clients);
+            this.unmodifiableClients = FXCollections.unmodifiableObservableList(this.clients);
+        }
+
+        @Override
+        public void sortClients() {
+            clients.sort(Comparator.comparing(client -> client.getName().fullName));
+        }
+
+        @Override
+        public ObservableList<Client> getClientList() {
+            return unmodifiableClients;
+        }
+    }
+
+    /**
+     * A storage operation run on the saver thread.
+     */
+    @FunctionalInterface
+    private interface StorageTask {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,320 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
+import seedu.address.model.client.exceptions.DuplicateClientException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with a header holding a format marker and version, the number of clients and a CRC-32 checksum of
+ * the rest of the file. The distinct tag names come next, each stored once, followed by one record per client that
+ * holds its fields as length-prefixed UTF-8 strings and its tags as positions in the tag names. The file is replaced
+ * atomically on every save, keeping its previous contents as a backup.
+ *
+ * The file is read from a memory mapping where possible, and its checksum is verified before any record is read.
+ * Unless told not to, this storage then trusts the fields in the file, as it wrote them from validated clients, and
+ * creates clients from them without normalizing or validating them again.
+ * Tag names are always validated, as each one is only read once. Files with a {@code .json} extension are read and
+ * written as JSON instead, so that data can still be imported and exported in that format.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_UNKNOWN_FORMAT = "Data file is not in a known binary format.";
+    public static final String MESSAGE_CORRUPTED = "Data file is corrupted.";
+
+    static final int MAGIC = 0x57564142; // "WVAB"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = Integer.BYTES * 3 + Long.BYTES;
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isTrustingStoredFields;
+
+    /**
+     * Creates a storage for the binary file at {@code filePath} that trusts the fields it reads back.
+     */
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a storage for the binary file at {@code filePath}.
+     *
+     * @param isTrustingStoredFields Whether to skip validating the fields of clients read from intact files.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isTrustingStoredFields) {
+        this.filePath = requireNonNull(filePath);
+        this.isTrustingStoredFields = isTrustingStoredFields;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a binary data file.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return filePath.toString().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the JSON file with the same name as the binary file at {@code filePath}, apart from
+     * the extension.
+     */
+    public static Path jsonFilePathOf(Path filePath) {
+        String fileName = filePath.toString();
+        return Paths.get(fileName.substring(0, fileName.length() - FILE_EXTENSION.length()) + JSON_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (isJsonFile(filePath)) {
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(read(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (isJsonFile(filePath)) {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        write(addressBook.getClientList(), filePath);
+    }
+
+    /**
+     * Same as {@link #saveAddressBook(ReadOnlyAddressBook)}, as every save writes the address book in full.
+     */
+    @Override
+    public void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook);
+    }
+
+    private static boolean isJsonFile(Path filePath) {
+        return filePath.toString().endsWith(JSON_FILE_EXTENSION);
+    }
+
+    private static void write(List<Client> clients, Path filePath) throws IOException {
+        Map<Tag, Integer> tagPositions = new LinkedHashMap<>();
+        for (Client client : clients) {
+            for (Tag tag : client.getTags()) {
+                tagPositions.putIfAbsent(tag, tagPositions.size());
+            }
+        }
+
+        FileUtil.writeAtomicallyKeepingBackup(filePath, channel -> {
+            CRC32 checksum = new CRC32();
+            channel.position(HEADER_SIZE);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), checksum), BUFFER_SIZE));
+            out.writeInt(tagPositions.size());
+            for (Tag tag : tagPositions.keySet()) {
+                writeString(out, tag.tagName);
+            }
+            for (Client client : clients) {
+                writeString(out, client.getName().fullName);
+                writeString(out, client.getPhone().value);
+                writeString(out, client.getEmail().value);
+                writeString(out, client.getAddress().value);
+                out.writeInt(client.getTags().size());
+                for (Tag tag : client.getTags()) {
+                    out.writeInt(tagPositions.get(tag));
+                }
+            }
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC).putInt(FORMAT_VERSION).putInt(clients.size()).putLong(checksum.getValue());
+            header.flip();
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += channel.write(header, position);
+            }
+        });
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        ByteBuffer file = FileUtil.readToBuffer(filePath);
+        if (file.remaining() < HEADER_SIZE || file.getInt() != MAGIC || file.getInt() != FORMAT_VERSION) {
+            throw new IllegalValueException(MESSAGE_UNKNOWN_FORMAT);
+        }
+        int clientCount = file.getInt();
+        long storedChecksum = file.getLong();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(file.duplicate());
+        if (checksum.getValue() != storedChecksum) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        List<Client> clients;
+        try {
+            clients = readClients(file, clientCount);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        if (file.hasRemaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.bulkLoad(clients);
+        } catch (DuplicateClientException dce) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the tag names and the {@code clientCount} client records that follow them from {@code file}, whose
+     * checksum has been verified.
+     */
+    private List<Client> readClients(ByteBuffer file, int clientCount) throws IllegalValueException {
+        int tagCount = readCount(file);
+        List<JsonAdaptedTag> tagAdapters = new ArrayList<>();
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            JsonAdaptedTag tagAdapter = new JsonAdaptedTag(readString(file));
+            tagAdapters.add(tagAdapter);
+            tags.add(tagAdapter.toModelType());
+        }
+
+        if (clientCount < 0) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        List<Client> clients = new ArrayList<>(Math.min(clientCount, BUFFER_SIZE));
+        for (int i = 0; i < clientCount; i++) {
+            String name = readString(file);
+            String phone = readString(file);
+            String email = readString(file);
+            String address = readString(file);
+            int clientTagCount = readCount(file);
+            List<Integer> tagPositions = new ArrayList<>(Math.min(clientTagCount, tagCount));
+            for (int j = 0; j < clientTagCount; j++) {
+                int tagPosition = file.getInt();
+                if (tagPosition < 0 || tagPosition >= tagCount) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+                tagPositions.add(tagPosition);
+            }
+
+            if (isTrustingStoredFields) {
+                Set<Tag> clientTags = new HashSet<>();
+                tagPositions.forEach(position -> clientTags.add(tags.get(position)));
+                clients.add(new Client(Name.fromTrusted(name), Phone.fromTrusted(phone), Email.fromTrusted(email),
+                        Address.fromTrusted(address), clientTags));
+            } else {
+                List<JsonAdaptedTag> clientTags = new ArrayList<>();
+                tagPositions.forEach(position -> clientTags.add(tagAdapters.get(position)));
+                clients.add(new JsonAdaptedClient(name, phone, email, address, clientTags).toModelType());
+            }
+        }
+        return clients;
+    }
+
+    private static int readCount(ByteBuffer file) throws IllegalValueException {
+        int count = file.getInt();
+        if (count < 0) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer file) throws IllegalValueException {
+        int length = file.getInt();
+        if (length < 0 || length > file.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        byte[] bytes = new byte[length];
+        file.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
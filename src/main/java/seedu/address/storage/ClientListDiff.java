@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.client.Client;
+
+/**
+ * Describes how a list of clients changed as a few {@link JsonAdaptedClientChange}s.
+ * Clients are immutable, so clients that were not changed are the same objects in both lists and are compared by
+ * reference.
+ */
+class ClientListDiff {
+
+    private ClientListDiff() {}
+
+    /**
+     * Returns the changes that turn {@code before} into {@code after}, or null if more than {@code maxChanges} would
+     * be needed.
+     * The clients that differ are assumed to lie in a single run, as they do after adding, editing or deleting
+     * clients; any other change is described by replacing the whole run.
+     */
+    static List<JsonAdaptedClientChange> changesBetween(List<? extends Client> before, List<? extends Client> after,
+            int maxChanges) {
+        List<JsonAdaptedClientChange> changes = new ArrayList<>();
+        if (after.isEmpty() && !before.isEmpty()) {
+            changes.add(JsonAdaptedClientChange.clear());
+            return maxChanges >= 1 ? changes : null;
+        }
+
+        int shorterSize = Math.min(before.size(), after.size());
+        int prefix = 0;
+        while (prefix < shorterSize && before.get(prefix) == after.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < shorterSize - prefix
+                && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        int removedCount = before.size() - prefix - suffix;
+        int addedCount = after.size() - prefix - suffix;
+        int changeCount = removedCount == addedCount ? addedCount : removedCount + addedCount;
+        if (changeCount > maxChanges) {
+            return null;
+        }
+
+        if (removedCount == addedCount) {
+            for (int i = prefix; i < prefix + addedCount; i++) {
+                changes.add(JsonAdaptedClientChange.set(i, after.get(i)));
+            }
+            return changes;
+        }
+        for (int i = 0; i < removedCount; i++) {
+            changes.add(JsonAdaptedClientChange.remove(prefix));
+        }
+        for (int i = prefix; i < prefix + addedCount; i++) {
+            changes.add(JsonAdaptedClientChange.add(i, after.get(i)));
+        }
+        return changes;
+    }
+
+    /**
+     * Returns true if {@code first} and {@code second} hold the same client objects in the same order.
+     */
+    static boolean isSameClients(List<? extends Client> first, List<? extends Client> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,254 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.exceptions.DuplicateClientException;
+
+/**
+ * Stores AddressBook data as a snapshot, kept by another {@code AddressBookStorage}, and a journal of the changes
+ * made since the snapshot was written.
+ * Saving compares the clients with those already stored and appends only the clients that were added, replaced or
+ * removed to the journal. The snapshot is rewritten, and the journal emptied, once the journal holds more than a
+ * given number of changes, when the changes cannot be described by a few changes (such as after sorting), or when
+ * {@link #compactAddressBook(ReadOnlyAddressBook)} is called. Reading loads the snapshot and replays the journal.
+ * Only a snapshot that cannot be read fails the read. A journal ends at its first entry that cannot be read or
+ * replayed, such as one torn by a crash, and that entry and the ones after it are cut off with a warning.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final AddressBookJournal journal;
+    private final int compactionThreshold;
+
+    /** The clients as stored by the snapshot and the journal together, or null if they are not known. */
+    private List<Client> storedClients;
+    private int journaledChangeCount;
+
+    /** Whether the journal has been started for the current snapshot, so that changes can be appended to it. */
+    private boolean isJournalStarted;
+
+    /** Whether a write failed, so that what is stored may be out of date. */
+    private boolean isStoreOutOfDate;
+
+    /**
+     * Creates a storage that journals changes to the snapshot in {@code snapshotStorage}.
+     *
+     * @param compactionThreshold The number of journaled changes after which the snapshot is rewritten.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = new AddressBookJournal(journalPathOf(snapshotStorage.getAddressBookFilePath()));
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotPath}.
+     */
+    public static Path journalPathOf(Path snapshotPath) {
+        return Paths.get(snapshotPath.toString() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when reading the snapshot this storage keeps.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        storedClients = null;
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        Optional<List<List<JsonAdaptedClientChange>>> journaledEntries;
+        try {
+            journaledEntries = journal.read(FileUtil.checksumOf(filePath));
+        } catch (IOException e) {
+            logger.warning("Journal " + journal.getFilePath() + " could not be read, so only the snapshot is loaded: "
+                    + e.getMessage());
+            markStoreOutOfDate(); // the next save rewrites the snapshot instead of appending to the journal
+            return snapshot;
+        }
+        isJournalStarted = journaledEntries.isPresent();
+
+        List<List<JsonAdaptedClientChange>> entries = journaledEntries.orElse(List.of());
+        if (entries.isEmpty()) {
+            rememberStoredClients(new ArrayList<>(snapshot.get().getClientList()), 0);
+            return snapshot;
+        }
+
+        List<Client> snapshotClients = snapshot.get().getClientList();
+        int entryCount = entries.size();
+        while (true) {
+            List<Client> clients = new ArrayList<>(snapshotClients);
+            int replayedCount = 0;
+            try {
+                for (; replayedCount < entryCount; replayedCount++) {
+                    for (JsonAdaptedClientChange change : entries.get(replayedCount)) {
+                        change.applyTo(clients);
+                    }
+                }
+                AddressBook addressBook = new AddressBook();
+                addressBook.bulkLoad(clients);
+                return Optional.of(replayed(addressBook, entries, entryCount));
+            } catch (IllegalValueException e) {
+                logger.warning("Journal " + journal.getFilePath() + " ends at entry " + (replayedCount + 1)
+                        + ", which cannot be replayed: " + e.getMessage());
+                entryCount = replayedCount;
+            } catch (DuplicateClientException e) {
+                if (entryCount == 0) {
+                    logger.info("Duplicate clients found in " + filePath);
+                    throw new DataLoadingException(
+                            new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT));
+                }
+                // the entry that duplicated a client is not known, so the last entry is dropped and the rest replayed
+                logger.warning("Journal " + journal.getFilePath() + " ends at entry " + entryCount
+                        + ", which duplicates a client.");
+                entryCount--;
+            }
+        }
+    }
+
+    /**
+     * Finishes reading {@code addressBook}, which is the snapshot with the first {@code replayedCount} of
+     * {@code entries} replayed onto it, cutting the entries that could not be replayed off the journal.
+     */
+    private ReadOnlyAddressBook replayed(AddressBook addressBook, List<List<JsonAdaptedClientChange>> entries,
+            int replayedCount) {
+        logger.info("Replayed " + replayedCount + " journal entries from " + journal.getFilePath());
+        if (replayedCount < entries.size()) {
+            try {
+                journal.truncateEntries(replayedCount);
+            } catch (IOException e) {
+                logger.warning("Journal " + journal.getFilePath() + " could not be cut short: " + e.getMessage());
+                markStoreOutOfDate(); // the next save rewrites the snapshot instead of appending to the journal
+                return addressBook;
+            }
+        }
+
+        int changeCount = entries.subList(0, replayedCount).stream().mapToInt(List::size).sum();
+        rememberStoredClients(new ArrayList<>(addressBook.getClientList()), changeCount);
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        List<? extends Client> clients = addressBook.getClientList();
+        if (storedClients == null) {
+            compact(addressBook);
+            return;
+        }
+
+        List<JsonAdaptedClientChange> changes =
+                ClientListDiff.changesBetween(storedClients, clients, compactionThreshold - journaledChangeCount);
+        if (changes == null) {
+            compact(addressBook);
+            return;
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (!isJournalStarted) {
+                journal.reset(FileUtil.checksumOf(getAddressBookFilePath()));
+                isJournalStarted = true;
+            }
+            journal.append(changes);
+        } catch (IOException e) {
+            markStoreOutOfDate(); // the journal may hold part of the changes
+            throw e;
+        }
+        rememberStoredClients(new ArrayList<>(clients), journaledChangeCount + changes.size());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a file other than the snapshot this storage keeps writes a full snapshot there, without a journal.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Rewrites the snapshot and empties the journal, unless the snapshot already holds every client.
+     * Nothing is written if {@code addressBook} was neither read from nor saved to this storage, so that a data file
+     * that could not be read is not overwritten unless a command changed the address book.
+     */
+    @Override
+    public void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        boolean isUpToDate = storedClients == null
+                ? !isStoreOutOfDate
+                : journaledChangeCount == 0 && ClientListDiff.isSameClients(storedClients, addressBook.getClientList());
+        if (!isUpToDate) {
+            compact(addressBook);
+        }
+    }
+
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        try {
+            snapshotStorage.saveAddressBook(addressBook);
+            journal.reset(FileUtil.checksumOf(getAddressBookFilePath()));
+        } catch (IOException e) {
+            markStoreOutOfDate();
+            throw e;
+        }
+        isJournalStarted = true;
+        isStoreOutOfDate = false;
+        rememberStoredClients(new ArrayList<>(addressBook.getClientList()), 0);
+    }
+
+    private void markStoreOutOfDate() {
+        storedClients = null;
+        isJournalStarted = false;
+        isStoreOutOfDate = true;
+    }
+
+    private void rememberStoredClients(List<Client> clients, int changeCount) {
+        storedClients = clients;
+        journaledChangeCount = changeCount;
+    }
+}
@@ -1,10 +1,14 @@
 package seedu.address.storage;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.Checksum;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -106,4 +110,73 @@ class JsonAdaptedClient {
         return new Client(modelName, modelPhone, modelEmail, modelAddress, modelTags);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted client object into the model's {@code Client} object, without
+     * normalizing or validating its fields again. This is only for clients read back from data that the app wrote
+     * itself and has checked to be intact.
+     * Tags are still validated, but only once per tag name: {@code knownTags} maps the tag names converted before to
+     * their tags, and is added to.
+     *
+     * @throws IllegalValueException if a field is missing, or there were any data constraints violated in the tags.
+     */
+    public Client toTrustedModelType(Map<String, Tag> knownTags) throws IllegalValueException {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            Tag modelTag = knownTags.get(tag.getTagName());
+            if (modelTag == null) {
+                modelTag = tag.toModelType();
+                knownTags.putIfAbsent(tag.getTagName(), modelTag);
+            }
+            modelTags.add(modelTag);
+        }
+
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (phone == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
+        }
+        if (email == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
+        }
+        if (address == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
+        }
+        return new Client(Name.fromTrusted(name), Phone.fromTrusted(phone), Email.fromTrusted(email),
+                Address.fromTrusted(address), modelTags);
+    }
+
+    /**
+     * Adds the values of this client as stored to {@code checksum}, as their UTF-8 bytes each preceded by its length,
+     * so that a checksum built up from the clients of an address book changes if any value is edited, or any client
+     * is added, removed or moved.
+     */
+    public void addToChecksum(Checksum checksum) {
+        addToChecksum(checksum, name);
+        addToChecksum(checksum, phone);
+        addToChecksum(checksum, email);
+        addToChecksum(checksum, address);
+        addLengthToChecksum(checksum, tags.size());
+        for (JsonAdaptedTag tag : tags) {
+            addToChecksum(checksum, tag.getTagName());
+        }
+    }
+
+    private static void addToChecksum(Checksum checksum, String value) {
+        if (value == null) {
+            addLengthToChecksum(checksum, -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        addLengthToChecksum(checksum, bytes.length);
+        checksum.update(bytes, 0, bytes.length);
+    }
+
+    private static void addLengthToChecksum(Checksum checksum, int length) {
+        checksum.update(length >>> 24);
+        checksum.update(length >>> 16);
+        checksum.update(length >>> 8);
+        checksum.update(length);
+    }
+
 }
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.Client;
+
+/**
+ * Jackson-friendly version of a single change to the list of clients, as recorded in an {@link AddressBookJournal}.
+ */
+class JsonAdaptedClientChange {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Journal contains an invalid %s change at index %s.";
+
+    static final String ADD = "add";
+    static final String SET = "set";
+    static final String REMOVE = "remove";
+    static final String CLEAR = "clear";
+
+    private final String op;
+    private final Integer index;
+    private final JsonAdaptedClient client;
+
+    /**
+     * Constructs a {@code JsonAdaptedClientChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedClientChange(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+            @JsonProperty("client") JsonAdaptedClient client) {
+        this.op = op;
+        this.index = index;
+        this.client = client;
+    }
+
+    /**
+     * Returns a change that inserts {@code client} at {@code index}.
+     */
+    static JsonAdaptedClientChange add(int index, Client client) {
+        return new JsonAdaptedClientChange(ADD, index, new JsonAdaptedClient(client));
+    }
+
+    /**
+     * Returns a change that replaces the client at {@code index} with {@code client}.
+     */
+    static JsonAdaptedClientChange set(int index, Client client) {
+        return new JsonAdaptedClientChange(SET, index, new JsonAdaptedClient(client));
+    }
+
+    /**
+     * Returns a change that removes the client at {@code index}.
+     */
+    static JsonAdaptedClientChange remove(int index) {
+        return new JsonAdaptedClientChange(REMOVE, index, null);
+    }
+
+    /**
+     * Returns a change that removes every client.
+     */
+    static JsonAdaptedClientChange clear() {
+        return new JsonAdaptedClientChange(CLEAR, null, null);
+    }
+
+    /**
+     * Applies this change to {@code clients}.
+     *
+     * @throws IllegalValueException if this change is malformed or does not fit {@code clients}.
+     */
+    public void applyTo(List<Client> clients) throws IllegalValueException {
+        if (CLEAR.equals(op)) {
+            clients.clear();
+            return;
+        }
+
+        int maxIndex = ADD.equals(op) ? clients.size() : clients.size() - 1;
+        if (index == null || index < 0 || index > maxIndex) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, op, index));
+        }
+
+        if (REMOVE.equals(op)) {
+            clients.remove((int) index);
+            return;
+        }
+        if (client == null || !(ADD.equals(op) || SET.equals(op))) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, op, index));
+        }
+
+        Client modelClient = client.toModelType();
+        if (ADD.equals(op)) {
+            clients.add(index, modelClient);
+        } else {
+            clients.set(index, modelClient);
+        }
+    }
+}
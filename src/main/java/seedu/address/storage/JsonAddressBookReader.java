@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableAddressBook.CHECKSUM_FIELD;
+import static seedu.address.storage.JsonSerializableAddressBook.CLIENTS_FIELD;
+import static seedu.address.storage.JsonSerializableAddressBook.FORMAT_VERSION;
+import static seedu.address.storage.JsonSerializableAddressBook.VERSION_FIELD;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.exceptions.DuplicateClientException;
+
+/**
+ * Reads AddressBook data from a JSON file in the format written for {@link JsonSerializableAddressBook}, one client
+ * at a time. Client records are converted to clients in parallel with a {@link ParallelClientConverter} as they are
+ * parsed, so neither the file nor the records of all clients are ever held in memory at once. Duplicate clients are
+ * then checked for in a single pass.
+ *
+ * A file that starts with the current format version and a checksum, as the app writes it, is first read trusting
+ * the fields of its clients, as if it is intact they were written from validated clients. The fields are then
+ * neither normalized nor validated again. If the checksum of the clients read does not match, or the file cannot be
+ * read that way, it is read again with every field validated, so that any error is reported just as for a file
+ * without a checksum.
+ */
+class JsonAddressBookReader {
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Returns the address book in the JSON file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not valid JSON in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        try {
+            Optional<AddressBook> addressBook = readIntactFile(filePath);
+            if (addressBook.isPresent()) {
+                return addressBook.get();
+            }
+        } catch (IOException | IllegalValueException e) {
+            // reading the file again reports the error that would have been found by validating every field
+        }
+        return readValidating(filePath);
+    }
+
+    /**
+     * Returns the address book in the JSON file at {@code filePath}, converting its clients without validating them
+     * again, or {@code Optional.empty()} if the file does not start with the current format version and a checksum,
+     * or its clients do not match the checksum.
+     */
+    private static Optional<AddressBook> readIntactFile(Path filePath) throws IOException, IllegalValueException {
+        ParallelClientConverter converter = new ParallelClientConverter(true);
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            readStartOfAddressBook(parser);
+            if (!hasIntegerField(parser, VERSION_FIELD) || parser.getLongValue() != FORMAT_VERSION
+                    || !hasIntegerField(parser, CHECKSUM_FIELD)) {
+                return Optional.empty();
+            }
+            long storedChecksum = parser.getLongValue();
+            if (readFields(parser, converter) != storedChecksum) {
+                converter.cancel();
+                return Optional.empty();
+            }
+        } catch (IOException ioe) {
+            converter.cancel(); // the file is read again, so the records read so far are not needed
+            throw ioe;
+        }
+        return Optional.of(toAddressBook(converter.finish()));
+    }
+
+    private static AddressBook readValidating(Path filePath) throws IOException, IllegalValueException {
+        ParallelClientConverter converter = new ParallelClientConverter();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            readStartOfAddressBook(parser);
+            readFields(parser, converter);
+        } catch (IOException ioe) {
+            converter.finish(); // reports any error in an earlier record first
+            throw ioe;
+        }
+        return toAddressBook(converter.finish());
+    }
+
+    /**
+     * Returns true if the next field of the object at the current position of {@code parser} is named
+     * {@code fieldName} and holds an integer, leaving {@code parser} at its value.
+     */
+    private static boolean hasIntegerField(JsonParser parser, String fieldName) throws IOException {
+        return parser.nextToken() == JsonToken.FIELD_NAME && fieldName.equals(parser.getCurrentName())
+                && parser.nextToken() == JsonToken.VALUE_NUMBER_INT;
+    }
+
+    private static void readStartOfAddressBook(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+    }
+
+    /**
+     * Reads the remaining fields of the address book object at the current position of {@code parser}, passing each
+     * client record to {@code converter}, and returns the checksum of the client records.
+     */
+    private static long readFields(JsonParser parser, ParallelClientConverter converter)
+            throws IOException, IllegalValueException {
+        CRC32 checksum = new CRC32();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (CLIENTS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                readClients(parser, converter, checksum);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Unexpected end of address book object");
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Passes each client record in the array at the current position of {@code parser} to {@code converter}, and
+     * adds the records to {@code checksum}.
+     */
+    private static void readClients(JsonParser parser, ParallelClientConverter converter, Checksum checksum)
+            throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a client record");
+            }
+            JsonAdaptedClient record = parser.readValueAs(JsonAdaptedClient.class);
+            record.addToChecksum(checksum);
+            converter.add(record);
+        }
+    }
+
+    private static AddressBook toAddressBook(List<Client> clients) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.bulkLoad(clients);
+        } catch (DuplicateClientException dce) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT);
+        }
+        return addressBook;
+    }
+}
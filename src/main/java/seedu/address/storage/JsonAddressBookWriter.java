@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+
+/**
+ * Writes AddressBook data to a JSON file in the format written for {@link JsonSerializableAddressBook}, one client
+ * at a time. Each client is converted and written as soon as it is reached, so the JSON text and the records of all
+ * clients are never held in memory at once. The checksum of the clients is worked out in a first pass over them, so
+ * that it can be written before them. The file is replaced atomically, keeping its previous contents as a
+ * backup, so that a save that stops partway through never leaves a damaged file behind.
+ */
+class JsonAddressBookWriter {
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to the JSON file at {@code filePath}, replacing its contents.
+     *
+     * @throws IOException if there was any problem writing to the file, in which case the file is left unchanged.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        long checksum = checksumOf(addressBook);
+        FileUtil.writeAtomicallyKeepingBackup(filePath, channel -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(Channels.newOutputStream(channel))) {
+                generator.writeStartObject();
+                generator.writeNumberField(JsonSerializableAddressBook.VERSION_FIELD,
+                        JsonSerializableAddressBook.FORMAT_VERSION);
+                generator.writeNumberField(JsonSerializableAddressBook.CHECKSUM_FIELD, checksum);
+                generator.writeArrayFieldStart(JsonSerializableAddressBook.CLIENTS_FIELD);
+                for (Client client : addressBook.getClientList()) {
+                    generator.writeObject(new JsonAdaptedClient(client));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * Returns the checksum of the clients in {@code addressBook}, as {@link JsonSerializableAddressBook} stores it.
+     */
+    private static long checksumOf(ReadOnlyAddressBook addressBook) {
+        CRC32 checksum = new CRC32();
+        for (Client client : addressBook.getClientList()) {
+            new JsonAdaptedClient(client).addToChecksum(checksum);
+        }
+        return checksum.getValue();
+    }
+}
@@ -3,24 +3,40 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.client.Client;
+import seedu.address.model.client.exceptions.DuplicateClientException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * The version of the format and a CRC-32 checksum of the clients are stored before them, so that data the app wrote
+ * itself in the current format can be told apart from data that was edited since or written in another format.
  */
 @JsonRootName(value = "addressbook")
+@JsonPropertyOrder({JsonSerializableAddressBook.VERSION_FIELD, JsonSerializableAddressBook.CHECKSUM_FIELD,
+    JsonSerializableAddressBook.CLIENTS_FIELD})
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_CLIENT = "Clients list contains duplicate client(s).";
 
+    static final String VERSION_FIELD = "version";
+    static final String CHECKSUM_FIELD = "checksum";
+    static final String CLIENTS_FIELD = "clients";
+
+    /** The version of the format, to be changed whenever the stored fields or how they are checksummed change. */
+    static final int FORMAT_VERSION = 1;
+
+    private final int version = FORMAT_VERSION;
+    private final long checksum;
     private final List<JsonAdaptedClient> clients = new ArrayList<>();
 
     /**
@@ -29,6 +45,7 @@ class JsonSerializableAddressBook {
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("clients") List<JsonAdaptedClient> clients) {
         this.clients.addAll(clients);
+        this.checksum = checksumOf(this.clients);
     }
 
     /**
@@ -38,6 +55,19 @@ class JsonSerializableAddressBook {
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         clients.addAll(source.getClientList().stream().map(JsonAdaptedClient::new).collect(Collectors.toList()));
+        checksum = checksumOf(clients);
+    }
+
+    /**
+     * Returns the CRC-32 checksum of {@code clients}, built up in order with
+     * {@link JsonAdaptedClient#addToChecksum(java.util.zip.Checksum)}.
+     */
+    static long checksumOf(List<JsonAdaptedClient> clients) {
+        CRC32 checksum = new CRC32();
+        for (JsonAdaptedClient client : clients) {
+            client.addToChecksum(checksum);
+        }
+        return checksum.getValue();
     }
 
     /**
@@ -46,13 +76,16 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Client> modelClients = new ArrayList<>(clients.size());
         for (JsonAdaptedClient jsonAdaptedClient : clients) {
-            Client client = jsonAdaptedClient.toModelType();
-            if (addressBook.hasClient(client)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
-            }
-            addressBook.addClient(client);
+            modelClients.add(jsonAdaptedClient.toModelType());
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.bulkLoad(modelClients);
+        } catch (DuplicateClientException dce) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
         }
         return addressBook;
     }
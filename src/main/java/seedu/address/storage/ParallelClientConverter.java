@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.Client;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Converts client records to clients in batches on the common fork-join pool, while more records are being read.
+ * The clients are returned in the order their records were added. If any records fail to convert, the error of the
+ * first of them is reported, just as if the records had been converted one at a time in order.
+ * At most a few batches per thread of the pool are held at once, so the records of all clients are never held in
+ * memory together.
+ * Records may also be trusted, and converted without normalizing or validating their fields again.
+ */
+class ParallelClientConverter {
+
+    static final int BATCH_SIZE = 1024;
+
+    private static final int MAX_PENDING_BATCHES = 2 * ForkJoinPool.getCommonPoolParallelism();
+
+    private final List<Client> clients = new ArrayList<>();
+    private final Deque<ForkJoinTask<ConvertedBatch>> pendingBatches = new ArrayDeque<>();
+    private final boolean isTrustingRecords;
+    private final Map<String, Tag> knownTags = new ConcurrentHashMap<>();
+    private List<JsonAdaptedClient> batch = new ArrayList<>(BATCH_SIZE);
+
+    /**
+     * Creates a converter that validates every record.
+     */
+    ParallelClientConverter() {
+        this(false);
+    }
+
+    /**
+     * Creates a converter.
+     *
+     * @param isTrustingRecords Whether to convert records with {@link JsonAdaptedClient#toTrustedModelType(Map)},
+     *     which is only for records the app wrote itself.
+     */
+    ParallelClientConverter(boolean isTrustingRecords) {
+        this.isTrustingRecords = isTrustingRecords;
+    }
+
+    /**
+     * Adds {@code record} to be converted after the records added before it.
+     *
+     * @throws IllegalValueException if a record added earlier has been found to violate data constraints.
+     */
+    void add(JsonAdaptedClient record) throws IllegalValueException, InterruptedIOException {
+        batch.add(record);
+        if (batch.size() < BATCH_SIZE) {
+            return;
+        }
+
+        List<JsonAdaptedClient> fullBatch = batch;
+        batch = new ArrayList<>(BATCH_SIZE);
+        pendingBatches.addLast(ForkJoinPool.commonPool().submit(() -> new ConvertedBatch(fullBatch)));
+        if (pendingBatches.size() > MAX_PENDING_BATCHES) {
+            collectOldestBatch();
+        }
+    }
+
+    /**
+     * Returns the clients converted from all records added, in order.
+     * The last batch of records is converted on the calling thread.
+     *
+     * @throws IllegalValueException if any record violates data constraints.
+     */
+    List<Client> finish() throws IllegalValueException, InterruptedIOException {
+        ConvertedBatch lastBatch = new ConvertedBatch(batch);
+        batch = new ArrayList<>();
+        while (!pendingBatches.isEmpty()) {
+            collectOldestBatch();
+        }
+        clients.addAll(lastBatch.getClients());
+        return clients;
+    }
+
+    private void collectOldestBatch() throws IllegalValueException, InterruptedIOException {
+        ForkJoinTask<ConvertedBatch> oldestBatch = pendingBatches.removeFirst();
+        try {
+            clients.addAll(oldestBatch.get().getClients());
+        } catch (InterruptedException e) {
+            cancelPendingBatches();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while converting client records");
+        } catch (ExecutionException e) {
+            cancelPendingBatches();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalValueException ive) {
+            cancelPendingBatches();
+            throw ive;
+        }
+    }
+
+    /**
+     * Discards all records added, cancelling the batches that are still being converted.
+     */
+    void cancel() {
+        cancelPendingBatches();
+        batch = new ArrayList<>(BATCH_SIZE);
+        clients.clear();
+    }
+
+    private void cancelPendingBatches() {
+        pendingBatches.forEach(pendingBatch -> pendingBatch.cancel(false));
+        pendingBatches.clear();
+    }
+
+    /**
+     * Converts {@code record} to a client, trusting its fields if this converter trusts records.
+     */
+    private Client convert(JsonAdaptedClient record) throws IllegalValueException {
+        return isTrustingRecords ? record.toTrustedModelType(knownTags) : record.toModelType();
+    }
+
+    /**
+     * The clients converted from a batch of records, or the error of the first record in it that failed to convert.
+     */
+    private class ConvertedBatch {
+        private final List<Client> clients = new ArrayList<>();
+        private IllegalValueException error;
+
+        ConvertedBatch(List<JsonAdaptedClient> records) {
+            try {
+                for (JsonAdaptedClient record : records) {
+                    clients.add(convert(record));
+                }
+            } catch (IllegalValueException ive) {
+                error = ive;
+            }
+        }
+
+        List<Client> getClients() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return clients;
+        }
+    }
+}
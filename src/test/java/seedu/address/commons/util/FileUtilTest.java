@@ -1,13 +1,30 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    private static final byte[] CONTENT = "Alice Pauline\nBenson Meier\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NEW_CONTENT = "Carl Kurz\n".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +37,82 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void readToBuffer_existingFile_returnsContents() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Files.write(file, CONTENT);
+
+        ByteBuffer buffer = FileUtil.readToBuffer(file);
+        byte[] read = new byte[buffer.remaining()];
+        buffer.get(read);
+        assertArrayEquals(CONTENT, read);
+    }
+
+    @Test
+    public void newInputStream_existingFile_readsContents() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Files.write(file, CONTENT);
+
+        try (InputStream in = FileUtil.newInputStream(file)) {
+            assertArrayEquals(CONTENT, in.readAllBytes());
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void writeAtomically_existingFile_contentsReplaced() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Files.write(file, CONTENT);
+
+        FileUtil.writeAtomically(file, channel -> channel.write(ByteBuffer.wrap(NEW_CONTENT)));
+        assertArrayEquals(NEW_CONTENT, Files.readAllBytes(file));
+        assertEquals(1, Files.list(testFolder).count()); // no temporary or backup file left behind
+    }
+
+    @Test
+    public void writeAtomically_missingFileAndParentDirectory_fileCreated() throws Exception {
+        Path file = testFolder.resolve("dir").resolve("file.txt");
+
+        FileUtil.writeAtomically(file, channel -> channel.write(ByteBuffer.wrap(CONTENT)));
+        assertArrayEquals(CONTENT, Files.readAllBytes(file));
+    }
+
+    @Test
+    public void writeAtomically_writeFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Files.write(file, CONTENT);
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, channel -> {
+            channel.write(ByteBuffer.wrap(NEW_CONTENT));
+            throw new IOException("disk full");
+        }));
+        assertArrayEquals(CONTENT, Files.readAllBytes(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void writeAtomicallyKeepingBackup_existingFile_previousContentsKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Files.write(file, CONTENT);
+
+        FileUtil.writeAtomicallyKeepingBackup(file, channel -> channel.write(ByteBuffer.wrap(NEW_CONTENT)));
+        assertArrayEquals(NEW_CONTENT, Files.readAllBytes(file));
+        assertArrayEquals(CONTENT, Files.readAllBytes(FileUtil.backupPathOf(file)));
+
+        // only the contents from the save before are kept
+        FileUtil.writeAtomicallyKeepingBackup(file, channel -> channel.write(ByteBuffer.wrap(CONTENT)));
+        assertArrayEquals(CONTENT, Files.readAllBytes(file));
+        assertArrayEquals(NEW_CONTENT, Files.readAllBytes(FileUtil.backupPathOf(file)));
+    }
+
+    @Test
+    public void checksumOf_existingFile_matchesChecksumOfContents() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Files.write(file, CONTENT);
+
+        CRC32 expected = new CRC32();
+        expected.update(CONTENT);
+        assertEquals(expected.getValue(), FileUtil.checksumOf(file));
+    }
+
 }
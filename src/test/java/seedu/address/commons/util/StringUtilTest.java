@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -46,6 +48,64 @@ public class StringUtilTest {
     }
 
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_agreesWithEqualsIgnoreCase() {
+        assertEquals(StringUtil.foldCase("Life INSURANCE"), StringUtil.foldCase("life insurance"));
+        assertEquals(StringUtil.foldCase("\u0130"), StringUtil.foldCase("i")); // dotted capital I
+        assertFalse(StringUtil.foldCase("abc").equals(StringUtil.foldCase("abd")));
+    }
+
+    @Test
+    public void foldCase_alreadyFolded_returnsSameString() {
+        String folded = "already folded";
+        assertTrue(folded == StringUtil.foldCase(folded));
+    }
+
+    //---------------- Tests for foldedWordsOf --------------------------------------
+
+    @Test
+    public void foldedWordsOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldedWordsOf(null));
+    }
+
+    @Test
+    public void foldedWordsOf_validSentence_agreesWithSplit() {
+        assertEquals(List.of(), StringUtil.foldedWordsOf(""));
+        assertEquals(List.of(), StringUtil.foldedWordsOf(" \t "));
+        assertEquals(List.of("aaa", "bbbb"), StringUtil.foldedWordsOf("AAA bBbB"));
+        assertEquals(List.of("aaa", "bbb", "ccc@ddd"), StringUtil.foldedWordsOf("  aaa\t\nBBB  ccc@DDD "));
+    }
+
+    @Test
+    public void lengthWithoutWhitespace_agreesWithReplaceAll() {
+        for (String s : new String[] {"", " \t ", "Alex Yeoh", "  a\u000Bb\fc\r\nd  ", "a\u00A0b"}) {
+            assertEquals(s.replaceAll("\\s+", "").length(), StringUtil.lengthWithoutWhitespace(s));
+        }
+    }
+
+    @Test
+    public void containsFoldedWord() {
+        List<String> words = StringUtil.foldedWordsOf("Life Insurance");
+        assertTrue(StringUtil.containsFoldedWord(words, "life"));
+        assertTrue(StringUtil.containsFoldedWord(words, StringUtil.foldCase("INSURANCE")));
+        assertFalse(StringUtil.containsFoldedWord(words, "lif"));
+    }
+
+    @Test
+    public void containsFoldedWordWithPrefix() {
+        List<String> words = StringUtil.foldedWordsOf("Life Insurance");
+        assertTrue(StringUtil.containsFoldedWordWithPrefix(words, "ins"));
+        assertTrue(StringUtil.containsFoldedWordWithPrefix(words, "life"));
+        assertFalse(StringUtil.containsFoldedWordWithPrefix(words, "lifes"));
+    }
+
     //---------------- Tests for containsWordIgnoreCase --------------------------------------
 
     /*
@@ -0,0 +1,145 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.AMY;
+import static seedu.address.testutil.TypicalClients.BOB;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.BatchRunner.OnFailure;
+import seedu.address.logic.commands.AddClientCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.ClientUtil;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_AMY = ClientUtil.getAddClientCommand(AMY);
+    private static final String ADD_BOB = ClientUtil.getAddClientCommand(BOB);
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void run_allCommandsSucceed_allExecuted() {
+        BatchResult result = new BatchRunner(model, OnFailure.ROLL_BACK)
+                .run(List.of(ADD_AMY, ExitCommand.COMMAND_WORD, ADD_BOB));
+
+        assertEquals(3, result.getCommandCount());
+        assertEquals(List.of(), result.getFailures());
+        assertFalse(result.isRolledBack());
+        assertTrue(model.hasClient(AMY));
+        assertTrue(model.hasClient(BOB));
+    }
+
+    @Test
+    public void run_blankLinesAndComments_skippedButCounted() {
+        BatchResult result = new BatchRunner(model, OnFailure.CONTINUE)
+                .run(List.of("# campaign", "", "   ", ADD_AMY, "unknown"));
+
+        assertEquals(2, result.getCommandCount());
+        assertEquals(5, result.getFailures().get(0).getLineNumber());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, result.getFailures().get(0).getMessage());
+    }
+
+    @Test
+    public void run_continueOnFailure_restExecuted() {
+        BatchResult result = new BatchRunner(model, OnFailure.CONTINUE).run(List.of(ADD_AMY, ADD_AMY, ADD_BOB));
+
+        assertEquals(3, result.getCommandCount());
+        assertEquals(2, result.getSuccessCount());
+        assertEquals(2, result.getFailures().get(0).getLineNumber());
+        assertEquals(AddClientCommand.MESSAGE_DUPLICATE_CLIENT, result.getFailures().get(0).getMessage());
+        assertFalse(result.isStopped());
+        assertTrue(model.hasClient(BOB));
+    }
+
+    @Test
+    public void run_stopOnFailure_earlierChangesKept() {
+        BatchResult result = new BatchRunner(model, OnFailure.STOP).run(List.of(ADD_AMY, ADD_AMY, ADD_BOB));
+
+        assertEquals(2, result.getCommandCount());
+        assertEquals(1, result.getFailures().size());
+        assertTrue(result.isStopped());
+        assertFalse(result.isRolledBack());
+        assertTrue(model.hasClient(AMY));
+        assertFalse(model.hasClient(BOB));
+    }
+
+    @Test
+    public void run_rollBackOnFailure_allChangesUndone() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        BatchResult result = new BatchRunner(model, OnFailure.ROLL_BACK).run(List.of(ADD_AMY, ADD_BOB, "delc 99"));
+
+        assertTrue(result.isStopped());
+        assertTrue(result.isRolledBack());
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void run_rollBackOnFailureBeforeAnyChange_addressBookNotReplaced() {
+        long modificationCount = model.getAddressBookModificationCount();
+
+        BatchResult result = new BatchRunner(model, OnFailure.ROLL_BACK).run(List.of("unknown", ADD_AMY));
+
+        assertTrue(result.isRolledBack());
+        assertEquals(modificationCount, model.getAddressBookModificationCount());
+    }
+
+    @Test
+    public void run_commandsThrowWhileRead_changesRolledBackAndExceptionRethrown() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        Iterable<String> commandTexts = () -> new Iterator<>() {
+            private boolean hasReturnedCommand;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public String next() {
+                if (hasReturnedCommand) {
+                    throw new IllegalStateException("read failed");
+                }
+                hasReturnedCommand = true;
+                return ADD_AMY;
+            }
+        };
+
+        assertThrows(IllegalStateException.class, "read failed", () ->
+                new BatchRunner(model, OnFailure.ROLL_BACK).run(commandTexts));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void run_nestedScript_fails() {
+        BatchResult result = new BatchRunner(model, OnFailure.CONTINUE).run(List.of("run other.txt"));
+
+        assertEquals(BatchRunner.MESSAGE_NESTED_SCRIPT, result.getFailures().get(0).getMessage());
+    }
+
+    @Test
+    public void getFeedback_manyFailures_firstFewListed() {
+        List<String> commandTexts = new ArrayList<>(Collections.nCopies(BatchResult.MAX_FAILURES_SHOWN + 3, "x"));
+        BatchResult result = new BatchRunner(model, OnFailure.CONTINUE).run(commandTexts);
+
+        String feedback = result.getFeedback();
+        assertTrue(feedback.contains("Line 1: " + MESSAGE_UNKNOWN_COMMAND));
+        assertTrue(feedback.contains("Line " + BatchResult.MAX_FAILURES_SHOWN + ": "));
+        assertFalse(feedback.contains("Line " + (BatchResult.MAX_FAILURES_SHOWN + 1) + ": "));
+        assertTrue(feedback.endsWith(String.format(BatchResult.MESSAGE_MORE_FAILURES, 3)));
+    }
+}
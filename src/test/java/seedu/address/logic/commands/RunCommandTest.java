@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.AMY;
+import static seedu.address.testutil.TypicalClients.BOB;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.BatchRunner.OnFailure;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.ClientUtil;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for RunCommand.
+ */
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_scriptFile_commandsRun() throws Exception {
+        Path scriptFile = testFolder.resolve("script.txt");
+        Files.write(scriptFile, List.of("# new clients", ClientUtil.getAddClientCommand(AMY),
+                ClientUtil.getAddClientCommand(BOB), ClientUtil.getAddClientCommand(AMY)));
+
+        CommandResult result = new RunCommand(scriptFile, OnFailure.CONTINUE).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 3 commands in "));
+        assertTrue(result.getFeedbackToUser().endsWith("Line 4: " + AddClientCommand.MESSAGE_DUPLICATE_CLIENT));
+        assertTrue(model.hasClient(AMY));
+        assertTrue(model.hasClient(BOB));
+    }
+
+    @Test
+    public void execute_missingScriptFile_throwsCommandException() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        RunCommand runCommand = new RunCommand(testFolder.resolve("missing.txt"), OnFailure.CONTINUE);
+
+        assertThrows(CommandException.class, () -> runCommand.execute(model));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Path.of("a.txt"), OnFailure.STOP);
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Path.of("a.txt"), OnFailure.STOP)));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Path.of("b.txt"), OnFailure.STOP)));
+
+        // different failure handling -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Path.of("a.txt"), OnFailure.ROLL_BACK)));
+    }
+
+    @Test
+    public void hashcode() {
+        RunCommand runCommand = new RunCommand(Path.of("a.txt"), OnFailure.STOP);
+
+        // same values -> returns same hashcode
+        assertEquals(runCommand.hashCode(), new RunCommand(Path.of("a.txt"), OnFailure.STOP).hashCode());
+
+        // different file -> returns different hashcode
+        assertNotEquals(runCommand.hashCode(), new RunCommand(Path.of("b.txt"), OnFailure.STOP).hashCode());
+
+        // different failure handling -> returns different hashcode
+        assertNotEquals(runCommand.hashCode(), new RunCommand(Path.of("a.txt"), OnFailure.ROLL_BACK).hashCode());
+    }
+
+    @Test
+    public void toStringMethod() {
+        RunCommand runCommand = new RunCommand(Path.of("a.txt"), OnFailure.STOP);
+        String expected = RunCommand.class.getCanonicalName() + "{scriptFile=a.txt, onFailure=STOP}";
+        assertEquals(expected, runCommand.toString());
+    }
+}
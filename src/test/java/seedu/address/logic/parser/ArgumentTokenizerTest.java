@@ -136,6 +136,31 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesNotAfterSpace_notRecognized() {
+        // a prefix at the very start, or after whitespace other than a space, is part of the value before it
+        String argsString = "p/start\tp/tabbed -t value p/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreamblePresent(argMultimap, "p/start\tp/tabbed");
+        assertArgumentPresent(argMultimap, dashT, "value");
+        assertArgumentPresent(argMultimap, pSlash, "");
+    }
+
+    @Test
+    public void tokenize_prefixStartsWithAnotherPrefix_longestPrefixRecognized() {
+        Prefix pSlashSlash = new Prefix("p//");
+        String argsString = "preamble p//longer p/shorter p/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlashSlash, "longer");
+        assertArgumentPresent(argMultimap, pSlash, "shorter", "");
+
+        // the same prefixes given in another order are recognized in the same way
+        argMultimap = ArgumentTokenizer.tokenize(argsString, pSlashSlash, pSlash);
+        assertArgumentPresent(argMultimap, pSlashSlash, "longer");
+        assertArgumentPresent(argMultimap, pSlash, "shorter", "");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SortCommand;
+
+public class CommandRegistryTest {
+
+    private final Parser<Command> sortParser = arguments -> new SortCommand();
+    private final Parser<Command> sortPriorityParser = arguments -> new SortCommand();
+    private final Parser<Command> listParser = arguments -> new ListCommand();
+    private final Parser<Command> clearParser = arguments -> new ClearCommand();
+
+    private final CommandRegistry registry = new CommandRegistry()
+            .register("sort", sortParser)
+            .register("sortpriority", sortPriorityParser, "sp")
+            .register("list", listParser, "ls", "listall")
+            .registerExact("clear", clearParser)
+            .register("clearance", sortParser);
+
+    @Test
+    public void parserFor_registeredWordOrAlias_returnsParser() {
+        assertSame(sortParser, registry.parserFor("sort"));
+        assertSame(sortPriorityParser, registry.parserFor("sortpriority"));
+        assertSame(sortPriorityParser, registry.parserFor("sp"));
+        assertSame(listParser, registry.parserFor("ls"));
+    }
+
+    @Test
+    public void parserFor_uniqueAbbreviation_returnsParser() {
+        assertSame(sortPriorityParser, registry.parserFor("sortp"));
+        assertSame(listParser, registry.parserFor("l"));
+        // abbreviates both a command word and an alias of the same command
+        assertSame(listParser, registry.parserFor("lis"));
+    }
+
+    @Test
+    public void parserFor_registeredWordThatAbbreviatesAnotherCommand_returnsOwnParser() {
+        assertSame(sortParser, registry.parserFor("sort"));
+    }
+
+    @Test
+    public void parserFor_ambiguousAbbreviation_returnsNull() {
+        assertNull(registry.parserFor("s"));
+        assertNull(registry.parserFor("sor"));
+    }
+
+    @Test
+    public void parserFor_unknownWord_returnsNull() {
+        assertNull(registry.parserFor("sorts"));
+        assertNull(registry.parserFor(""));
+    }
+
+    @Test
+    public void parserFor_exactlyRegisteredWord_notAbbreviated() {
+        assertSame(clearParser, registry.parserFor("clear"));
+        assertNull(registry.parserFor("c"));
+        assertNull(registry.parserFor("cle"));
+        // abbreviations that go beyond the exactly registered word still abbreviate the longer word
+        assertSame(sortParser, registry.parserFor("cleara"));
+    }
+
+    @Test
+    public void register_wordOfAnotherCommand_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.register("ls", arguments -> new ClearCommand()));
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.BatchRunner.OnFailure;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_fileOnly_continuesOnFailure() {
+        assertParseSuccess(parser, " campaign.txt ", new RunCommand(Path.of("campaign.txt"), OnFailure.CONTINUE));
+        assertParseSuccess(parser, " data/mass update.txt",
+                new RunCommand(Path.of("data/mass update.txt"), OnFailure.CONTINUE));
+    }
+
+    @Test
+    public void parse_onFailureGiven_returnsRunCommand() {
+        assertParseSuccess(parser, " a.txt onfail/continue", new RunCommand(Path.of("a.txt"), OnFailure.CONTINUE));
+        assertParseSuccess(parser, " a.txt onfail/stop", new RunCommand(Path.of("a.txt"), OnFailure.STOP));
+        assertParseSuccess(parser, " a.txt onfail/Rollback", new RunCommand(Path.of("a.txt"), OnFailure.ROLL_BACK));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " onfail/stop",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidOnFailure_throwsParseException() {
+        assertParseFailure(parser, " a.txt onfail/skip", RunCommandParser.MESSAGE_INVALID_ON_FAILURE
+                + String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_duplicateOnFailure_throwsParseException() {
+        assertParseFailure(parser, " a.txt onfail/stop onfail/rollback",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_ON_FAILURE));
+    }
+}
@@ -52,6 +52,25 @@ public class AddressBookTest {
         assertThrows(DuplicateClientException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void bulkLoad_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.bulkLoad(null));
+    }
+
+    @Test
+    public void bulkLoad_uniqueClients_replacesData() {
+        addressBook.addClient(ALICE);
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        addressBook.bulkLoad(expectedAddressBook.getClientList());
+        assertEquals(expectedAddressBook, addressBook);
+    }
+
+    @Test
+    public void bulkLoad_withDuplicateClients_throwsDuplicateClientException() {
+        Client duplicateAlice = new ClientBuilder(ALICE).build();
+        assertThrows(DuplicateClientException.class, () -> addressBook.bulkLoad(Arrays.asList(ALICE, duplicateAlice)));
+    }
+
     @Test
     public void hasClient_nullClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasClient(null));
@@ -80,6 +99,26 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getClientList().remove(0));
     }
 
+    @Test
+    public void getModificationCount_increasesOnEveryModification() {
+        long count = addressBook.getModificationCount();
+        addressBook.addClient(ALICE);
+        assertTrue(addressBook.getModificationCount() > count);
+
+        count = addressBook.getModificationCount();
+        addressBook.sortClients();
+        assertTrue(addressBook.getModificationCount() > count);
+
+        count = addressBook.getModificationCount();
+        addressBook.removeClient(ALICE);
+        assertTrue(addressBook.getModificationCount() > count);
+
+        // reads do not modify the address book
+        count = addressBook.getModificationCount();
+        addressBook.hasClient(ALICE);
+        assertEquals(count, addressBook.getModificationCount());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{clients=" + addressBook.getClientList() + "}";
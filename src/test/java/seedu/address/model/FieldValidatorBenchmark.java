@@ -0,0 +1,73 @@
+package seedu.address.model;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures how long each field validator takes per call, compared with checking the same value against the field's
+ * {@code VALIDATION_REGEX} with {@link String#matches(String)}, which compiles the regex on every call.
+ * Not run as part of the tests; run with {@code java seedu.address.model.FieldValidatorBenchmark [calls]} on the
+ * test classpath.
+ */
+public class FieldValidatorBenchmark {
+
+    private static final int DEFAULT_CALL_COUNT = 1_000_000;
+    private static final int RUNS = 3;
+
+    /**
+     * Times each validator, and the regex it replaces, on a typical valid value.
+     */
+    public static void main(String[] args) {
+        int callCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CALL_COUNT;
+
+        String name = "Alex Yeoh s/o David Li";
+        String phone = "+65 87438807";
+        String email = "alexyeoh@example.com";
+        String address = "Blk 30 Geylang Street 29, #06-40";
+        String tagName = "Life Insurance";
+
+        for (int run = 1; run <= RUNS; run++) {
+            System.out.printf("Run %d%n", run);
+            time("Name", callCount, name, Name::isValidName,
+                test -> test.matches(Name.VALIDATION_REGEX) && test.replaceAll("\\s+", "").length() <= 150);
+            time("Phone", callCount, phone, Phone::isValidPhone,
+                test -> test.matches(Phone.VALIDATION_REGEX) || test.equals("-"));
+            time("Email", callCount, email, Email::isValidEmail,
+                test -> test.matches(Email.VALIDATION_REGEX) || test.equals("-"));
+            time("Address", callCount, address, Address::isValidAddress,
+                test -> test.matches(Address.VALIDATION_REGEX) && test.replaceAll("\\s+", "").length() <= 150);
+            time("Tag", callCount, tagName, Tag::isValidTagName, test -> {
+                String tagWithoutWhitespace = test.replaceAll("\\s+", "");
+                return tagWithoutWhitespace.matches(Tag.VALIDATION_REGEX) && tagWithoutWhitespace.length() <= 150;
+            });
+        }
+    }
+
+    private static void time(String field, int callCount, String value, Predicate<String> validator,
+            Predicate<String> regexValidator) {
+        double validatorNanos = nanosPerCall(callCount, value, validator);
+        double regexNanos = nanosPerCall(callCount, value, regexValidator);
+        System.out.printf("  %-8s %8.1f ns per call, %8.1f ns with String#matches (%.1fx)%n",
+                field, validatorNanos, regexNanos, regexNanos / validatorNanos);
+    }
+
+    private static double nanosPerCall(int callCount, String value, Predicate<String> validator) {
+        int validCount = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < callCount; i++) {
+            if (validator.test(value)) {
+                validCount++;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        if (validCount != callCount) {
+            throw new IllegalStateException(value + " was found invalid");
+        }
+        return (double) elapsedNanos / callCount;
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.client.AbstractContainsKeywordsPredicate;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.ContainsKeywordsPredicate;
+
+public class FilterResultCacheTest {
+
+    private static final AbstractContainsKeywordsPredicate ALICE_PREDICATE =
+            new ContainsKeywordsPredicate(Arrays.asList("alice"));
+    private static final AbstractContainsKeywordsPredicate BENSON_PREDICATE =
+            new ContainsKeywordsPredicate(Arrays.asList("benson"));
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FilterResultCache(0));
+    }
+
+    @Test
+    public void get_afterPut_returnsCachedMatches() {
+        FilterResultCache cache = new FilterResultCache();
+        List<Client> matches = Collections.singletonList(ALICE);
+        assertFalse(cache.get(ALICE_PREDICATE, addressBook).isPresent());
+        cache.put(ALICE_PREDICATE, addressBook, matches);
+
+        // equal predicates share results
+        assertEquals(matches, cache.get(new ContainsKeywordsPredicate(Arrays.asList("alice")), addressBook).get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void get_addressBookModified_discardsResults() {
+        FilterResultCache cache = new FilterResultCache();
+        cache.put(ALICE_PREDICATE, addressBook, Collections.singletonList(ALICE));
+        addressBook.removeClient(BENSON);
+        assertFalse(cache.get(ALICE_PREDICATE, addressBook).isPresent());
+    }
+
+    @Test
+    public void put_overCapacity_evictsLeastRecentlyUsed() {
+        FilterResultCache cache = new FilterResultCache(2);
+        AbstractContainsKeywordsPredicate otherPredicate = new ContainsKeywordsPredicate(Arrays.asList("carl"));
+        cache.put(ALICE_PREDICATE, addressBook, Collections.singletonList(ALICE));
+        cache.put(BENSON_PREDICATE, addressBook, Collections.singletonList(BENSON));
+        cache.get(ALICE_PREDICATE, addressBook);
+        cache.put(otherPredicate, addressBook, Collections.emptyList());
+
+        assertTrue(cache.get(ALICE_PREDICATE, addressBook).isPresent());
+        assertTrue(cache.get(otherPredicate, addressBook).isPresent());
+        assertFalse(cache.get(BENSON_PREDICATE, addressBook).isPresent());
+    }
+}
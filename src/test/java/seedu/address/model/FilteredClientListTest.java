@@ -0,0 +1,131 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.CARL;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.ELLE;
+import static seedu.address.testutil.TypicalClients.GEORGE;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.IDA;
+import static seedu.address.testutil.TypicalClients.getTypicalClients;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.client.Client;
+
+public class FilteredClientListTest {
+
+    private static final Predicate<Client> NAME_HAS_E = client -> client.getName().fullName.contains("e");
+
+    private final ObservableList<Client> source = FXCollections.observableArrayList(getTypicalClients());
+    private final FilteredClientList filteredClients = new FilteredClientList(source, source::indexOf);
+    private final List<Client> mirror = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        mirror.addAll(filteredClients);
+        filteredClients.addListener((ListChangeListener<Client>) change -> applyChange(mirror, change));
+    }
+
+    @Test
+    public void constructor_showsAllClients() {
+        assertEquals(source, filteredClients);
+    }
+
+    @Test
+    public void setPredicate_testsEveryClient() {
+        filteredClients.setPredicate(NAME_HAS_E);
+        assertView(Arrays.asList(ALICE, BENSON, DANIEL, ELLE, GEORGE));
+    }
+
+    @Test
+    public void setPredicate_withMatches_showsMatchesInSourceOrder() {
+        filteredClients.setPredicate(NAME_HAS_E, Arrays.asList(ELLE, ALICE, DANIEL));
+        assertView(Arrays.asList(ALICE, DANIEL, ELLE));
+    }
+
+    @Test
+    public void refinePredicate_testsOnlyShownClients() {
+        filteredClients.setPredicate(NAME_HAS_E);
+        List<Client> tested = new ArrayList<>();
+        filteredClients.refinePredicate(client -> tested.add(client) && client.getName().fullName.contains("n"));
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL, ELLE, GEORGE), tested);
+        assertView(Arrays.asList(ALICE, BENSON, DANIEL));
+    }
+
+    @Test
+    public void sourceChanged_addAndRemove_keepsMatchingClients() {
+        filteredClients.setPredicate(NAME_HAS_E);
+        source.add(1, HOON);
+        source.add(IDA);
+        source.remove(ALICE);
+        source.remove(CARL);
+        assertView(source.filtered(NAME_HAS_E));
+    }
+
+    @Test
+    public void sourceChanged_set_retestsReplacedClient() {
+        filteredClients.setPredicate(NAME_HAS_E);
+        source.set(0, CARL);
+        source.set(2, HOON);
+        assertView(source.filtered(NAME_HAS_E));
+    }
+
+    @Test
+    public void sourceChanged_permutation_followsSourceOrder() {
+        filteredClients.setPredicate(NAME_HAS_E);
+        source.sort(Comparator.comparing((Client client) -> client.getName().fullName).reversed());
+        assertView(source.filtered(NAME_HAS_E));
+    }
+
+    @Test
+    public void sourceChanged_setAll_refilters() {
+        filteredClients.setPredicate(NAME_HAS_E);
+        source.setAll(HOON, CARL, IDA);
+        assertView(Arrays.asList(HOON, IDA));
+    }
+
+    @Test
+    public void modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> filteredClients.remove(0));
+    }
+
+    /**
+     * Asserts that the view equals {@code expected}, and that the change events fired by the view describe the
+     * same contents.
+     */
+    private void assertView(List<Client> expected) {
+        assertEquals(expected, filteredClients);
+        assertEquals(expected, mirror);
+        for (int i = 0; i < filteredClients.size(); i++) {
+            assertEquals(i, filteredClients.getViewIndex(filteredClients.getSourceIndex(i)));
+        }
+    }
+
+    private static void applyChange(List<Client> list, ListChangeListener.Change<? extends Client> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Client> permuted = new ArrayList<>(list.subList(change.getFrom(), change.getTo()));
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    list.set(change.getPermutation(i), permuted.get(i - change.getFrom()));
+                }
+            } else {
+                list.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                list.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
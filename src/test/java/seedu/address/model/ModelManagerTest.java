@@ -7,6 +7,8 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -15,6 +17,8 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.client.ContainsAllKeywordsPredicate;
+import seedu.address.model.client.ContainsKeywordsPredicate;
 import seedu.address.model.client.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
 
@@ -48,6 +52,25 @@ public class ModelManagerTest {
         assertEquals(oldUserPrefs, modelManager.getUserPrefs());
     }
 
+    @Test
+    public void setUserPrefs_sameUserPrefsTwice_addressBookUnmodified() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.sortClients();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSortLocale("fr");
+        modelManager.setUserPrefs(userPrefs);
+        long modificationCount = modelManager.getAddressBookModificationCount();
+        FilterResultCache cache = modelManager.getFilterResultCache();
+        modelManager.updateFilteredClientList(new ContainsKeywordsPredicate(Arrays.asList("meier")));
+
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        modelManager.updateFilteredClientList(new ContainsKeywordsPredicate(Arrays.asList("meier")));
+        assertEquals(modificationCount, modelManager.getAddressBookModificationCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
     @Test
     public void setGuiSettings_nullGuiSettings_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setGuiSettings(null));
@@ -88,11 +111,54 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasClient(ALICE));
     }
 
+    @Test
+    public void addClient_filteredList_showsAllClients() {
+        modelManager.addClient(ALICE);
+        modelManager.updateFilteredClientList(client -> false);
+        modelManager.addClient(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredClientList());
+
+        modelManager.addClient(DANIEL);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), modelManager.getFilteredClientList());
+    }
+
     @Test
     public void getFilteredClientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredClientList().remove(0));
     }
 
+    @Test
+    public void updateFilteredClientList_narrowedKeywords_showsNarrowedMatches() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredClientList(new ContainsAllKeywordsPredicate(Arrays.asList("meier")));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredClientList());
+
+        modelManager.updateFilteredClientList(new ContainsAllKeywordsPredicate(Arrays.asList("meier", "daniel")));
+        assertEquals(Arrays.asList(DANIEL), modelManager.getFilteredClientList());
+
+        // a broader search is looked up again rather than narrowed
+        modelManager.updateFilteredClientList(new ContainsKeywordsPredicate(Arrays.asList("meier", "alice")));
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), modelManager.getFilteredClientList());
+    }
+
+    @Test
+    public void updateFilteredClientList_repeatedKeywords_answeredFromCache() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        FilterResultCache cache = modelManager.getFilterResultCache();
+        modelManager.updateFilteredClientList(new ContainsKeywordsPredicate(Arrays.asList("meier")));
+        modelManager.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        modelManager.updateFilteredClientList(new ContainsKeywordsPredicate(Arrays.asList("meier")));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredClientList());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        // a modified address book is searched again
+        modelManager.deleteClient(BENSON);
+        modelManager.updateFilteredClientList(new ContainsKeywordsPredicate(Arrays.asList("meier")));
+        assertEquals(Arrays.asList(DANIEL), modelManager.getFilteredClientList());
+        assertEquals(2, cache.getMissCount());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withClient(ALICE).withClient(BENSON).build();
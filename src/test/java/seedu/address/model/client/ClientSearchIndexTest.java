@@ -0,0 +1,87 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.DANIEL;
+import static seedu.address.testutil.TypicalClients.getTypicalClients;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ClientBuilder;
+
+public class ClientSearchIndexTest {
+
+    private final UniqueClientList uniqueClientList = new UniqueClientList();
+    private final ClientSearchIndex index = uniqueClientList.getSearchIndex();
+
+    @Test
+    public void findWithAnyWord_emptyIndex_returnsEmptySet() {
+        assertTrue(index.findWithAnyWord(Collections.singletonList("alice")).isEmpty());
+    }
+
+    @Test
+    public void findWithAnyWord_nameAndTagWords_matchesIgnoringCase() {
+        uniqueClientList.setClients(getTypicalClients());
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL)),
+                new HashSet<>(index.findWithAnyWord(Arrays.asList("friends", "alice"))));
+    }
+
+    @Test
+    public void findWithAllWords_nameAndTagWords_returnsIntersection() {
+        uniqueClientList.setClients(getTypicalClients());
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)),
+                new HashSet<>(index.findWithAllWords(Arrays.asList("meier", "friends"))));
+        assertTrue(index.findWithAllWords(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void findByNameWithAnyWord_tagWord_notMatched() {
+        uniqueClientList.setClients(getTypicalClients());
+        assertTrue(index.findByNameWithAnyWord(Collections.singletonList("friends"), Collections.emptyList())
+                .isEmpty());
+    }
+
+    @Test
+    public void findByNameWithAnyWord_prefix_matchesWordsStartingWithPrefix() {
+        uniqueClientList.setClients(getTypicalClients());
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)),
+                new HashSet<>(index.findByNameWithAnyWord(Collections.emptyList(), Arrays.asList("mei"))));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL)),
+                new HashSet<>(index.findByNameWithAnyWord(Arrays.asList("alice"), Arrays.asList("meier"))));
+        assertTrue(index.findByNameWithAnyWord(Collections.emptyList(), Arrays.asList("meiers")).isEmpty());
+    }
+
+    @Test
+    public void findMatches_afterMutations_agreesWithPredicates() {
+        uniqueClientList.setClients(getTypicalClients());
+        Client editedAlice = new ClientBuilder(ALICE).withTags("Life Insurance").build();
+        uniqueClientList.setClient(ALICE, editedAlice);
+        uniqueClientList.remove(BENSON);
+        uniqueClientList.add(new ClientBuilder().withName("Tan Ah Kow").withTags("Life", "Health").build());
+
+        List<List<String>> keywordLists = Arrays.asList(
+                Arrays.asList("life"), Arrays.asList("life", "health"), Arrays.asList("meier", "friends"),
+                Arrays.asList("insurance", "alice"), Arrays.asList("owesmoney"), Arrays.asList("TA*", "k*"),
+                Arrays.asList("*"), Arrays.asList("Mei*", "carl"));
+        for (List<String> keywords : keywordLists) {
+            assertMatchesAgree(new ContainsKeywordsPredicate(keywords));
+            assertMatchesAgree(new ContainsAllKeywordsPredicate(keywords));
+            assertMatchesAgree(new NameContainsKeywordsPredicate(keywords));
+        }
+    }
+
+    private void assertMatchesAgree(AbstractContainsKeywordsPredicate predicate) {
+        Set<Client> expected = uniqueClientList.asUnmodifiableObservableList().stream()
+                .filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, new HashSet<>(predicate.findMatches(index)));
+    }
+}
@@ -77,6 +77,23 @@ public class ContainsAllKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void isNarrowingOf() {
+        ContainsAllKeywordsPredicate predicate = new ContainsAllKeywordsPredicate(Arrays.asList("Alice", "tan"));
+
+        // more keywords than another all-keywords predicate
+        assertTrue(predicate.isNarrowingOf(new ContainsAllKeywordsPredicate(Arrays.asList("alice"))));
+        assertFalse(predicate.isNarrowingOf(new ContainsAllKeywordsPredicate(Arrays.asList("alice", "bob"))));
+        assertFalse(predicate.isNarrowingOf(new ContainsAllKeywordsPredicate(Collections.emptyList())));
+
+        // shares a keyword with an any-keyword predicate
+        assertTrue(predicate.isNarrowingOf(new ContainsKeywordsPredicate(Arrays.asList("bob", "TAN"))));
+        assertFalse(predicate.isNarrowingOf(new ContainsKeywordsPredicate(Arrays.asList("bob"))));
+
+        // name predicates do not match tags
+        assertFalse(predicate.isNarrowingOf(new NameContainsKeywordsPredicate(Arrays.asList("alice"))));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -36,6 +36,16 @@ public class ContainsKeywordsPredicateTest {
 
         // different client -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different kind of predicate with the same keywords -> returns false
+        assertFalse(firstPredicate.equals(new ContainsAllKeywordsPredicate(firstPredicateKeywordList)));
+    }
+
+    @Test
+    public void hashCode_equalPredicates_sameHashCode() {
+        List<String> keywords = Arrays.asList("first", "second");
+        assertEquals(new ContainsKeywordsPredicate(keywords).hashCode(),
+                new ContainsKeywordsPredicate(Arrays.asList("first", "second")).hashCode());
     }
 
     @Test
@@ -77,6 +87,18 @@ public class ContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void isNarrowingOf() {
+        ContainsKeywordsPredicate predicate = new ContainsKeywordsPredicate(Arrays.asList("Alice", "tan"));
+        assertTrue(predicate.isNarrowingOf(new ContainsKeywordsPredicate(Arrays.asList("alice", "tan", "bob"))));
+        assertFalse(predicate.isNarrowingOf(new ContainsKeywordsPredicate(Arrays.asList("alice"))));
+        assertFalse(predicate.isNarrowingOf(new ContainsAllKeywordsPredicate(Arrays.asList("alice"))));
+
+        // zero keywords match no client
+        assertTrue(new ContainsKeywordsPredicate(Collections.emptyList())
+                .isNarrowingOf(new ContainsAllKeywordsPredicate(Arrays.asList("alice"))));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -0,0 +1,60 @@
+package seedu.address.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class NameCollationTest {
+
+    private static final List<String> NAMES = Arrays.asList(
+            "alice", "Alice Tan", "ALICE tan", "Bob", "bobby", "Zed", "zeta", "Ah Kow", "a", "\u00C9mile");
+
+    @Test
+    public void forLanguageTag_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> NameCollation.forLanguageTag(null));
+    }
+
+    @Test
+    public void forLanguageTag_blank_returnsCaseInsensitive() {
+        assertSame(NameCollation.CASE_INSENSITIVE, NameCollation.forLanguageTag(" "));
+    }
+
+    @Test
+    public void sortKeyOf_caseInsensitive_agreesWithCaseInsensitiveOrder() {
+        for (String first : NAMES) {
+            for (String second : NAMES) {
+                assertEquals(Integer.signum(String.CASE_INSENSITIVE_ORDER.compare(first, second)),
+                        Integer.signum(compare(NameCollation.CASE_INSENSITIVE, first, second)));
+            }
+        }
+    }
+
+    @Test
+    public void sortKeyOf_localeAware_ordersAccentsWithBaseLetters() {
+        NameCollation french = NameCollation.forLanguageTag("fr");
+        assertTrue(compare(french, "Eli", "\u00C9mile") < 0);
+        assertTrue(compare(french, "\u00C9mile", "Fay") < 0);
+        assertEquals(0, compare(french, "emile", "EMILE"));
+
+        // case-insensitive order puts accented letters after every unaccented one
+        assertTrue(compare(NameCollation.CASE_INSENSITIVE, "\u00C9mile", "Fay") > 0);
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(NameCollation.forLanguageTag("fr").equals(NameCollation.forLanguageTag("fr")));
+        assertFalse(NameCollation.forLanguageTag("fr").equals(NameCollation.CASE_INSENSITIVE));
+        assertFalse(NameCollation.CASE_INSENSITIVE.equals(null));
+    }
+
+    private static int compare(NameCollation collation, String first, String second) {
+        return Arrays.compareUnsigned(collation.sortKeyOf(new Name(first)), collation.sortKeyOf(new Name(second)));
+    }
+}
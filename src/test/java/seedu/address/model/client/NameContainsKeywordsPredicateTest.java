@@ -74,6 +74,32 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void test_prefixKeyword_matchesWordsStartingWithPrefix() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("TA*"));
+        assertTrue(predicate.test(new ClientBuilder().withName("Alice Tan").build()));
+        assertTrue(predicate.test(new ClientBuilder().withName("Tay Bob").build()));
+        assertFalse(predicate.test(new ClientBuilder().withName("Alice Ota").build()));
+
+        // A lone wildcard is matched as an ordinary word
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("*"));
+        assertFalse(predicate.test(new ClientBuilder().withName("Alice").build()));
+    }
+
+    @Test
+    public void isNarrowingOf() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice", "tan*"));
+        assertTrue(predicate.isNarrowingOf(new NameContainsKeywordsPredicate(Arrays.asList("alice", "ta*"))));
+        assertTrue(predicate.isNarrowingOf(new NameContainsKeywordsPredicate(Arrays.asList("al*", "t*"))));
+        assertFalse(predicate.isNarrowingOf(new NameContainsKeywordsPredicate(Arrays.asList("alice", "tan"))));
+        assertFalse(predicate.isNarrowingOf(new NameContainsKeywordsPredicate(Arrays.asList("tan*"))));
+
+        // prefixes cannot be checked against whole-word keywords
+        assertFalse(predicate.isNarrowingOf(new ContainsKeywordsPredicate(Arrays.asList("alice", "tan"))));
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("alice"))
+                .isNarrowingOf(new ContainsKeywordsPredicate(Arrays.asList("alice", "tan"))));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
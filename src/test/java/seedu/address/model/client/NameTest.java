@@ -1,9 +1,13 @@
 package seedu.address.model.client;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -47,6 +51,79 @@ public class NameTest {
         assertTrue(Name.isValidName("d/o Jane")); // valid usage of d/o
     }
 
+    @Test
+    public void normalizeName_examples() {
+        assertEquals("John s/o Doe", Name.normalizeName("  JOHN   S/O doe "));
+        assertEquals("Mary d/o Tan", Name.normalizeName("mary D/O tan"));
+        assertEquals("Tan, Ah Kow", Name.normalizeName("tan ,ah\tkow"));
+        assertEquals("Dr. Lim", Name.normalizeName("dr.lim"));
+        assertEquals("Ali @ Alan", Name.normalizeName("ali@alan"));
+        assertEquals("", Name.normalizeName(" \t "));
+    }
+
+    @Test
+    public void normalizeName_generatedNames_sameAsRegexNormalization() {
+        // letters, case-sensitive parts of s/o and d/o, separators, control characters, and characters whose case
+        // mapping changes their length or depends on the characters around them
+        String alphabet = "aAbBsSdDoOiI/  \t\n.,@'-\u0001\u001F\u00DF\u03A3\u0130\u00E9\uD801\uDC00";
+        Random random = new Random(0);
+        for (Locale locale : new Locale[] {Locale.ENGLISH, new Locale("tr")}) {
+            Locale defaultLocale = Locale.getDefault();
+            Locale.setDefault(locale);
+            try {
+                for (int i = 0; i < 200_000; i++) {
+                    StringBuilder name = new StringBuilder();
+                    int length = random.nextInt(16);
+                    for (int j = 0; j < length; j++) {
+                        name.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                    }
+                    String generated = name.toString();
+                    assertEquals(normalizeNameWithRegexes(generated), Name.normalizeName(generated), generated);
+                }
+            } finally {
+                Locale.setDefault(defaultLocale);
+            }
+        }
+    }
+
+    /**
+     * Normalizes {@code name} as {@code Name} did before it was normalized in a single pass.
+     */
+    private static String normalizeNameWithRegexes(String name) {
+        name = name.replaceAll("([,.@])(?!\\s)", "$1 ");
+        name = name.replaceAll("(?<!\\s)@", " @ ");
+        name = name.replaceAll("\\s+", " ");
+
+        String[] parts = name.trim().split(" ");
+        StringBuilder result = new StringBuilder();
+        for (String part : parts) {
+            if (part.length() > 0) {
+                if (part.length() == 1) {
+                    result.append(part.toUpperCase()).append(" ");
+                } else {
+                    result.append(part.substring(0, 1).toUpperCase())
+                            .append(part.substring(1).toLowerCase()).append(" ");
+                }
+            }
+        }
+
+        name = result.toString().trim();
+        name = name.replaceAll("(?i)s/o", "s/o");
+        name = name.replaceAll("(?i)d/o", "d/o");
+        name = name.replaceAll(" \\.", "\\.");
+        name = name.replaceAll(" ,", ",");
+        name = name.replaceAll("\\s+", " ");
+        return name.trim();
+    }
+
+    @Test
+    public void fromTrusted_storedFullName_equalsConstructedName() {
+        Name name = new Name("john  s/o   DOE");
+        Name trusted = Name.fromTrusted(name.fullName);
+        assertEquals(name, trusted);
+        assertEquals(name.getFoldedWords(), trusted.getFoldedWords());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -66,4 +143,11 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void containsFoldedWord() {
+        Name name = new Name("tan AH kow");
+        assertTrue(name.containsFoldedWord("ah"));
+        assertFalse(name.containsFoldedWord("ta"));
+    }
 }
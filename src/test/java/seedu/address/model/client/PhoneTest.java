@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class PhoneTest {
@@ -53,6 +55,29 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("-"));
     }
 
+    @Test
+    public void isValidPhone_agreesWithValidationRegex() {
+        String alphabet = "0123456789 \t+-a";
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder test = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int j = 0; j < length; j++) {
+                // mostly digits, so that many of the strings are valid
+                test.append(random.nextInt(3) == 0 ? alphabet.charAt(random.nextInt(alphabet.length()))
+                        : (char) ('0' + random.nextInt(10)));
+            }
+            String phone = test.toString();
+            assertEquals(phone.matches(Phone.VALIDATION_REGEX) || phone.equals("-"), Phone.isValidPhone(phone), phone);
+        }
+    }
+
+    @Test
+    public void fromTrusted_storedValue_equalsConstructedPhone() {
+        Phone phone = new Phone("9312 1534");
+        assertEquals(phone, Phone.fromTrusted(phone.value));
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("999");
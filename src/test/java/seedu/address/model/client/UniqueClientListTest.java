@@ -5,7 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
 import static seedu.address.testutil.TypicalClients.BOB;
+import static seedu.address.testutil.TypicalClients.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -44,6 +46,29 @@ public class UniqueClientListTest {
         assertTrue(uniqueClientList.contains(duplicateAlice));
     }
 
+    @Test
+    public void contains_clientReplacedInList_returnsFalse() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.setClient(ALICE, BOB);
+        assertFalse(uniqueClientList.contains(ALICE));
+        assertTrue(uniqueClientList.contains(BOB));
+    }
+
+    @Test
+    public void contains_clientRemovedFromList_returnsFalse() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.remove(ALICE);
+        assertFalse(uniqueClientList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetClients_reflectsNewContents() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.setClients(Collections.singletonList(BOB));
+        assertFalse(uniqueClientList.contains(ALICE));
+        assertTrue(uniqueClientList.contains(BOB));
+    }
+
     @Test
     public void add_nullClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.add(null));
@@ -113,6 +138,104 @@ public class UniqueClientListTest {
         assertEquals(expectedUniqueClientList, uniqueClientList);
     }
 
+    @Test
+    public void remove_clientWithSameIdentityButDifferentFields_throwsClientNotFoundException() {
+        uniqueClientList.add(ALICE);
+        Client editedAlice = new ClientBuilder(ALICE).withTags("Health").build();
+        assertThrows(ClientNotFoundException.class, () -> uniqueClientList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_thenSetClientAfterRemovedPosition_replacesCorrectClient() {
+        uniqueClientList.setClients(Arrays.asList(ALICE, BENSON, CARL));
+        uniqueClientList.remove(ALICE);
+        uniqueClientList.setClient(CARL, BOB);
+        uniqueClientList.remove(BENSON);
+        UniqueClientList expectedUniqueClientList = new UniqueClientList();
+        expectedUniqueClientList.add(BOB);
+        assertEquals(expectedUniqueClientList, uniqueClientList);
+    }
+
+    @Test
+    public void sort_thenSetClient_replacesCorrectClient() {
+        uniqueClientList.setClients(Arrays.asList(CARL, BENSON, ALICE));
+        uniqueClientList.sort();
+        uniqueClientList.setClient(BENSON, BOB);
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sort_thenAdd_keepsNameOrder() {
+        uniqueClientList.setClients(Arrays.asList(CARL, ALICE));
+        uniqueClientList.sort();
+        uniqueClientList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniqueClientList.asUnmodifiableObservableList());
+        assertEquals(1, uniqueClientList.indexOf(BENSON));
+        assertEquals(2, uniqueClientList.indexOf(CARL));
+    }
+
+    @Test
+    public void sort_thenSetClient_movesEditedClientIntoOrder() {
+        uniqueClientList.setClients(Arrays.asList(CARL, BENSON, ALICE));
+        uniqueClientList.sort();
+        Client renamedAlice = new ClientBuilder(ALICE).withName("Zed Pauline").build();
+        uniqueClientList.setClient(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, renamedAlice), uniqueClientList.asUnmodifiableObservableList());
+        assertEquals(2, uniqueClientList.indexOf(renamedAlice));
+        assertEquals(0, uniqueClientList.indexOf(BENSON));
+    }
+
+    @Test
+    public void sortClientsByPriority_switchesBetweenMaintainedOrders() {
+        Client priorityCarl = new ClientBuilder(CARL).withTags("Priority").build();
+        uniqueClientList.setClients(Arrays.asList(BENSON, priorityCarl, ALICE));
+        uniqueClientList.sortClientsByPriority();
+        assertEquals(Arrays.asList(priorityCarl, ALICE, BENSON), uniqueClientList.asUnmodifiableObservableList());
+
+        uniqueClientList.remove(ALICE);
+        uniqueClientList.sort();
+        assertEquals(Arrays.asList(BENSON, priorityCarl), uniqueClientList.asUnmodifiableObservableList());
+
+        // making a client a priority client moves it to the front once priority order is chosen again
+        Client priorityBenson = new ClientBuilder(BENSON).withTags("Priority").build();
+        uniqueClientList.add(ALICE);
+        uniqueClientList.setClient(BENSON, priorityBenson);
+        uniqueClientList.sortClientsByPriority();
+        assertEquals(Arrays.asList(priorityBenson, priorityCarl, ALICE),
+                uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setNameCollation_sortedList_sortsAgain() {
+        Client emile = new ClientBuilder().withName("Emile Zola").build();
+        Client accentedEmile = new ClientBuilder().withName("\u00C9mile Durand").withPhone("91234567").build();
+        Client fay = new ClientBuilder().withName("Fay Wong").withPhone("92345678").build();
+        uniqueClientList.setClients(Arrays.asList(fay, accentedEmile, emile));
+        uniqueClientList.sort();
+        assertEquals(Arrays.asList(emile, fay, accentedEmile), uniqueClientList.asUnmodifiableObservableList());
+
+        assertTrue(uniqueClientList.setNameCollation(NameCollation.forLanguageTag("fr")));
+        assertEquals(Arrays.asList(accentedEmile, emile, fay), uniqueClientList.asUnmodifiableObservableList());
+
+        // same collation again -> not sorted again
+        assertFalse(uniqueClientList.setNameCollation(NameCollation.forLanguageTag("fr")));
+    }
+
+    @Test
+    public void setNameCollation_unsortedList_orderUnchanged() {
+        uniqueClientList.setClients(Arrays.asList(CARL, ALICE));
+        assertFalse(uniqueClientList.setNameCollation(NameCollation.forLanguageTag("fr")));
+        assertEquals(Arrays.asList(CARL, ALICE), uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setClients_afterSort_keepsGivenOrder() {
+        uniqueClientList.sort();
+        uniqueClientList.setClients(Arrays.asList(CARL, ALICE));
+        uniqueClientList.add(BENSON);
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON), uniqueClientList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setClients_nullUniqueClientList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.setClients((UniqueClientList) null));
@@ -1,5 +1,6 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -40,4 +41,32 @@ public class TagTest {
         assertFalse(Tag.isValidTagName("Invalid@Tag#")); // Contains invalid symbols
         assertFalse(Tag.isValidTagName("a".repeat(151))); // Exceeds max length
     }
+
+    @Test
+    public void isValidTagName_agreesWithValidationRegex() {
+        // every character on its own, and between letters and spaces
+        for (char c = 0; c < 0x3000; c++) {
+            assertAgreesWithValidationRegex(String.valueOf(c));
+            assertAgreesWithValidationRegex("a " + c + "b");
+        }
+
+        // whitespace is not counted towards the maximum length
+        assertAgreesWithValidationRegex("a".repeat(150));
+        assertAgreesWithValidationRegex("a ".repeat(150));
+        assertAgreesWithValidationRegex("a\t".repeat(151));
+        assertAgreesWithValidationRegex("\n\r\f\u000B");
+    }
+
+    private void assertAgreesWithValidationRegex(String tagName) {
+        String tagWithoutWhitespace = tagName.replaceAll("\\s+", "");
+        boolean expected = tagWithoutWhitespace.matches(Tag.VALIDATION_REGEX) && tagWithoutWhitespace.length() <= 150;
+        assertEquals(expected, Tag.isValidTagName(tagName), tagName);
+    }
+
+    @Test
+    public void containsFoldedWord() {
+        Tag tag = new Tag("life INSURANCE");
+        assertTrue(tag.containsFoldedWord("insurance"));
+        assertFalse(tag.containsFoldedWord("life insurance"));
+    }
 }
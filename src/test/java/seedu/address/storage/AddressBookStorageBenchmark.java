@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Address;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Name;
+import seedu.address.model.client.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagFactory;
+
+/**
+ * Measures how long it takes to load a large address book from each data file format.
+ * Not run as part of the tests; run with {@code java seedu.address.storage.AddressBookStorageBenchmark [clients]}
+ * on the test classpath, with a heap large enough for the address book (about 4 GB for a million clients).
+ */
+public class AddressBookStorageBenchmark {
+
+    private static final int DEFAULT_CLIENT_COUNT = 1_000_000;
+    private static final int RUNS = 3;
+
+    /**
+     * Saves a generated address book in each format, then times loading it back.
+     */
+    public static void main(String[] args) throws Exception {
+        int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLIENT_COUNT;
+        Path folder = Files.createTempDirectory("benchmark");
+        AddressBookStorage[] storages = {
+            new JsonAddressBookStorage(folder.resolve("addressBook.json")),
+            new BinaryAddressBookStorage(folder.resolve("addressBook.bin"), false),
+            new BinaryAddressBookStorage(folder.resolve("addressBook.bin"), true),
+        };
+        String[] names = {"JSON", "Binary, validating", "Binary, trusting"};
+
+        AddressBook addressBook = generateAddressBook(clientCount);
+        System.out.printf("Generated %,d clients%n", clientCount);
+        for (AddressBookStorage storage : storages) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            System.out.printf("Saved %s (%,d bytes) in %,d ms%n", storage.getAddressBookFilePath().getFileName(),
+                    Files.size(storage.getAddressBookFilePath()), (System.nanoTime() - start) / 1_000_000);
+        }
+        addressBook = null;
+
+        for (int i = 0; i < storages.length; i++) {
+            for (int run = 1; run <= RUNS; run++) {
+                System.gc();
+                long start = System.nanoTime();
+                ReadOnlyAddressBook readBack = storages[i].readAddressBook().get();
+                long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+                System.out.printf("%-20s run %d: loaded %,d clients in %,d ms%n",
+                        names[i], run, readBack.getClientList().size(), elapsedMillis);
+            }
+        }
+
+        for (AddressBookStorage storage : storages) {
+            Files.deleteIfExists(storage.getAddressBookFilePath());
+            Files.deleteIfExists(FileUtil.backupPathOf(storage.getAddressBookFilePath()));
+        }
+        Files.delete(folder);
+    }
+
+    private static AddressBook generateAddressBook(int clientCount) {
+        Tag[] tags = new Tag[10];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = TagFactory.createTag(i == 0 ? "priority" : "policy " + (char) ('a' + i));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        Client[] clients = new Client[clientCount];
+        for (int i = 0; i < clientCount; i++) {
+            clients[i] = new Client(new Name("client " + i + " tan"), new Phone(String.valueOf(80000000 + i)),
+                    new Email("client" + i + "@example.com"), new Address("block " + i + " clementi avenue"),
+                    new HashSet<>(Arrays.asList(tags[i % tags.length], tags[(i / tags.length) % tags.length])));
+        }
+        addressBook.bulkLoad(Arrays.asList(clients));
+        return addressBook;
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.IDA;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.client.Client;
+
+public class BackgroundAddressBookSaverTest {
+
+    /** Long enough that scheduled saves never run during a test, unless flushed. */
+    private static final long LONG_DELAY_MILLIS = 60_000;
+    private static final String SAVER_THREAD_NAME = "address-book-saver";
+
+    private StorageStub storageStub;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        storageStub = new StorageStub();
+        addressBook = getTypicalAddressBook();
+    }
+
+    @Test
+    public void constructor_negativeDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BackgroundAddressBookSaver(storageStub, -1));
+    }
+
+    @Test
+    public void saveAddressBook_repeatedSaves_onlyLatestWritten() throws Exception {
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storageStub, LONG_DELAY_MILLIS);
+        saver.saveAddressBook(addressBook);
+        addressBook.addClient(HOON);
+        saver.saveAddressBook(addressBook);
+        addressBook.addClient(IDA);
+        saver.saveAddressBook(addressBook);
+        assertTrue(storageStub.saved.isEmpty());
+
+        saver.compactAddressBook(addressBook);
+        assertEquals(1, storageStub.saved.size());
+        assertEquals(addressBook.getClientList(), storageStub.saved.get(0));
+        assertEquals(1, storageStub.compacted.size());
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterSave_writesClientsAtTimeOfSave() throws Exception {
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storageStub, LONG_DELAY_MILLIS);
+        saver.saveAddressBook(addressBook);
+        List<Client> clientsAtSave = new ArrayList<>(addressBook.getClientList());
+        addressBook.removeClient(ALICE);
+
+        saver.readAddressBook();
+        assertEquals(clientsAtSave, storageStub.saved.get(0));
+        // the saved clients are the same objects, so that later saves can be compared by reference
+        assertSame(clientsAtSave.get(1), storageStub.saved.get(0).get(1));
+    }
+
+    @Test
+    public void readAddressBook_readOnSaverThread() throws Exception {
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storageStub, LONG_DELAY_MILLIS);
+        saver.saveAddressBook(addressBook);
+        saver.readAddressBook();
+        assertEquals(SAVER_THREAD_NAME, storageStub.readThreadName);
+    }
+
+    @Test
+    public void readAddressBook_readFails_throwsSameException() {
+        DataLoadingException failure = new DataLoadingException(new IOException("unreadable"));
+        storageStub.readFailure = failure;
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storageStub, LONG_DELAY_MILLIS);
+        try {
+            saver.readAddressBook();
+            fail();
+        } catch (DataLoadingException e) {
+            assertSame(failure, e);
+        }
+    }
+
+    @Test
+    public void saveAddressBook_noDelay_writtenInBackground() throws Exception {
+        storageStub.savedFuture = new CompletableFuture<>();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storageStub, 0);
+        saver.saveAddressBook(addressBook);
+        assertEquals(addressBook.getClientList(), storageStub.savedFuture.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_failureHandlerCalled() throws Exception {
+        IOException failure = new IOException("disk full");
+        storageStub.saveFailure = failure;
+        CompletableFuture<IOException> handledFailure = new CompletableFuture<>();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storageStub, 0);
+        saver.setSaveFailureHandler(handledFailure::complete);
+
+        saver.saveAddressBook(addressBook);
+        assertSame(failure, handledFailure.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void compactAddressBook_pendingWriteFails_throwsIoException() {
+        storageStub.saveFailure = new IOException("disk full");
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storageStub, LONG_DELAY_MILLIS);
+        saver.saveAddressBook(addressBook);
+        assertThrows(IOException.class, () -> saver.compactAddressBook(addressBook));
+        assertTrue(storageStub.compacted.isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_writtenImmediately() throws Exception {
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storageStub, LONG_DELAY_MILLIS);
+        saver.saveAddressBook(addressBook, Paths.get("other.json"));
+        assertEquals(List.of(Paths.get("other.json")), storageStub.savedPaths);
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the clients it is asked to save and compact.
+     */
+    private static class StorageStub implements AddressBookStorage {
+        private static final Path FILE_PATH = Paths.get("addressBook.json");
+
+        private final List<List<Client>> saved = new ArrayList<>();
+        private final List<List<Client>> compacted = new ArrayList<>();
+        private final List<Path> savedPaths = new ArrayList<>();
+        private CompletableFuture<List<Client>> savedFuture = new CompletableFuture<>();
+        private IOException saveFailure;
+        private DataLoadingException readFailure;
+        private String readThreadName;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return FILE_PATH;
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+            readThreadName = Thread.currentThread().getName();
+            if (readFailure != null) {
+                throw readFailure;
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (saveFailure != null) {
+                throw saveFailure;
+            }
+            saved.add(new ArrayList<>(addressBook.getClientList()));
+            savedFuture.complete(new ArrayList<>(addressBook.getClientList()));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            savedPaths.add(filePath);
+        }
+
+        @Override
+        public void compactAddressBook(ReadOnlyAddressBook addressBook) {
+            compacted.add(new ArrayList<>(addressBook.getClientList()));
+        }
+
+        @Override
+        public void setSaveFailureHandler(Consumer<IOException> handler) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
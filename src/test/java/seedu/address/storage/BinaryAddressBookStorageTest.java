@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.ClientBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_trustingStoredFields_success() throws Exception {
+        assertRoundTrip(new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"), true));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_validatingStoredFields_success() throws Exception {
+        assertRoundTrip(new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"), false));
+    }
+
+    private void assertRoundTrip(BinaryAddressBookStorage storage) throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addClient(new ClientBuilder(HOON).withTags("Priority", "friends").build());
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertTrue(readBack.getClientList().get(readBack.getClientList().size() - 1).isPriority());
+
+        // overwrite with fewer clients
+        original.removeClient(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 20] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_jsonFileGivenAsBinary_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_jsonFilePath_exportedAsJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("export.json");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        storage.saveAddressBook(getTypicalAddressBook(), jsonFilePath);
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(jsonFilePath).get()));
+    }
+
+    @Test
+    public void jsonFilePathOf_binaryFile_replacesExtension() {
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "wealthvault.bin")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(Paths.get("data", "wealthvault.json")));
+        assertEquals(Paths.get("data", "wealthvault.json"),
+                BinaryAddressBookStorage.jsonFilePathOf(Paths.get("data", "wealthvault.bin")));
+    }
+}
@@ -0,0 +1,221 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalClients.ALICE;
+import static seedu.address.testutil.TypicalClients.BENSON;
+import static seedu.address.testutil.TypicalClients.HOON;
+import static seedu.address.testutil.TypicalClients.IDA;
+import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.ClientBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path snapshotPath;
+    private Path journalPath;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        snapshotPath = testFolder.resolve("addressBook.json");
+        journalPath = JournaledAddressBookStorage.journalPathOf(snapshotPath);
+        addressBook = getTypicalAddressBook();
+    }
+
+    private JournaledAddressBookStorage newStorage(int compactionThreshold) {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(snapshotPath), compactionThreshold);
+    }
+
+    private AddressBook readBack() throws Exception {
+        return new AddressBook(newStorage(1000).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournalOnly() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(1000);
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(snapshotPath);
+
+        addressBook.addClient(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.setClient(ALICE, new ClientBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removeClient(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(snapshotPath));
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_sortedAndCleared_replaysToSameClients() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(1000);
+        storage.saveAddressBook(addressBook);
+        addressBook.sortClientsByPriority();
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readBack());
+
+        addressBook.setClients(List.of());
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_overCompactionThreshold_rewritesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(1);
+        storage.saveAddressBook(addressBook);
+        addressBook.addClient(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addClient(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(snapshotPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_afterRead_continuesJournal() throws Exception {
+        newStorage(1000).saveAddressBook(addressBook);
+        JournaledAddressBookStorage storage = newStorage(1000);
+        AddressBook loaded = new AddressBook(storage.readAddressBook().get());
+        loaded.addClient(HOON);
+        storage.saveAddressBook(loaded);
+
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(loaded, readBack());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignored() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(1000);
+        storage.saveAddressBook(addressBook);
+        addressBook.addClient(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // the snapshot is rewritten without updating the journal, as if saving was interrupted
+        AddressBook newer = getTypicalAddressBook();
+        newer.addClient(IDA);
+        new JsonAddressBookStorage(snapshotPath).saveAddressBook(newer);
+        assertEquals(newer, readBack());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(1000);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalPath, "[{\"op\":\"add\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_removedBeforeNextAppend() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(1000);
+        storage.saveAddressBook(addressBook);
+        addressBook.addClient(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalPath, "[{\"op\":\"add\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage restartedStorage = newStorage(1000);
+        AddressBook readAddressBook = new AddressBook(restartedStorage.readAddressBook().get());
+        assertEquals(addressBook, readAddressBook);
+
+        readAddressBook.addClient(IDA);
+        restartedStorage.saveAddressBook(readAddressBook);
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(readAddressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_lastEntryWithoutLineTerminator_ignored() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(1000);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalPath, "[]".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, readBack());
+        assertEquals(1, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void readAddressBook_partialLineBeforeLaterEntries_snapshotAndEarlierEntriesRecovered() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(1000);
+        storage.saveAddressBook(addressBook);
+        addressBook.addClient(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalPath, "[{\"op\":\"add\",\"ind\n[{\"op\":\"clear\"}]\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, readBack());
+        assertEquals(2, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void readAddressBook_invalidChange_earlierEntriesReplayed() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(1000);
+        storage.saveAddressBook(addressBook);
+        addressBook.addClient(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalPath, "[{\"op\":\"remove\",\"index\":100}]\n[]\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, readBack());
+        assertEquals(2, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void readAddressBook_changeDuplicatingClient_earlierEntriesReplayed() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(1000);
+        storage.saveAddressBook(addressBook);
+        addressBook.addClient(HOON);
+        storage.saveAddressBook(addressBook);
+        String duplicateAlice = JsonUtil.toCompactJsonString(List.of(JsonAdaptedClientChange.add(0, ALICE)));
+        Files.write(journalPath, (duplicateAlice + "\n").getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, readBack());
+        assertEquals(2, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void compactAddressBook_unreadableDataFile_notOverwritten() throws Exception {
+        Files.writeString(snapshotPath, "not json");
+        JournaledAddressBookStorage storage = newStorage(1000);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        storage.compactAddressBook(new AddressBook());
+        assertEquals("not json", Files.readString(snapshotPath));
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void compactAddressBook_journaledChanges_rewritesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = newStorage(1000);
+        storage.saveAddressBook(addressBook);
+        addressBook.addClient(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.compactAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, readBack());
+    }
+}
@@ -1,21 +1,28 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.storage.JsonAdaptedClient.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.BENSON;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.client.Address;
+import seedu.address.model.client.Client;
 import seedu.address.model.client.Email;
 import seedu.address.model.client.Name;
 import seedu.address.model.client.Phone;
+import seedu.address.model.tag.Tag;
 
 public class JsonAdaptedClientTest {
     private static final String INVALID_NAME = "R%chel";
@@ -38,6 +45,69 @@ public class JsonAdaptedClientTest {
         assertEquals(BENSON, client.toModelType());
     }
 
+    @Test
+    public void toTrustedModelType_validClientDetails_returnsClient() throws Exception {
+        Map<String, Tag> knownTags = new HashMap<>();
+        assertEquals(BENSON, new JsonAdaptedClient(BENSON).toTrustedModelType(knownTags));
+        assertEquals(BENSON.getTags().size(), knownTags.size());
+
+        // tags already known are reused
+        Client client = new JsonAdaptedClient(BENSON).toTrustedModelType(knownTags);
+        for (Tag tag : client.getTags()) {
+            assertSame(knownTags.get(tag.tagName), tag);
+        }
+    }
+
+    @Test
+    public void toTrustedModelType_nullPhone_throwsIllegalValueException() {
+        JsonAdaptedClient client = new JsonAdaptedClient(VALID_NAME, null, VALID_EMAIL, VALID_ADDRESS, VALID_TAGS);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, () -> client.toTrustedModelType(new HashMap<>()));
+    }
+
+    @Test
+    public void toTrustedModelType_invalidTags_throwsIllegalValueException() {
+        List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
+        invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
+        JsonAdaptedClient client =
+                new JsonAdaptedClient(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, invalidTags);
+        assertThrows(IllegalValueException.class, () -> client.toTrustedModelType(new HashMap<>()));
+    }
+
+    private static long checksumOf(JsonAdaptedClient client) {
+        CRC32 checksum = new CRC32();
+        client.addToChecksum(checksum);
+        return checksum.getValue();
+    }
+
+    @Test
+    public void addToChecksum_differentValues_differentChecksums() {
+        long checksum = checksumOf(new JsonAdaptedClient(BENSON));
+        assertEquals(checksum, checksumOf(new JsonAdaptedClient(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_TAGS)));
+        assertNotEquals(checksum, checksumOf(new JsonAdaptedClient(VALID_NAME, "98765433", VALID_EMAIL,
+                VALID_ADDRESS, VALID_TAGS)));
+        assertNotEquals(checksum, checksumOf(new JsonAdaptedClient(VALID_NAME, VALID_PHONE, VALID_EMAIL,
+                VALID_ADDRESS, new ArrayList<>())));
+    }
+
+    @Test
+    public void addToChecksum_valuesWithSameStringHashCode_differentChecksums() {
+        // "Aa" and "BB", and "ab" and "bC", have the same String#hashCode
+        assertNotEquals(checksumOf(new JsonAdaptedClient("Aa", VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_TAGS)),
+                checksumOf(new JsonAdaptedClient("BB", VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_TAGS)));
+        assertNotEquals(checksumOf(new JsonAdaptedClient(VALID_NAME, VALID_PHONE, "ab@example.com", VALID_ADDRESS,
+                VALID_TAGS)),
+                checksumOf(new JsonAdaptedClient(VALID_NAME, VALID_PHONE, "bC@example.com", VALID_ADDRESS,
+                VALID_TAGS)));
+    }
+
+    @Test
+    public void addToChecksum_valueMovedToNextField_differentChecksums() {
+        assertNotEquals(checksumOf(new JsonAdaptedClient(VALID_NAME, VALID_PHONE, "", VALID_ADDRESS, VALID_TAGS)),
+                checksumOf(new JsonAdaptedClient(VALID_NAME, "", VALID_PHONE, VALID_ADDRESS, VALID_TAGS)));
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedClient client =
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalClients.ALICE;
 import static seedu.address.testutil.TypicalClients.HOON;
@@ -11,11 +12,14 @@ import static seedu.address.testutil.TypicalClients.getTypicalAddressBook;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -60,6 +64,22 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidClientAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicateClientAddressBook_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicateClientAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_truncatedAddressBook_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("truncatedAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_extraFields_ignored() throws Exception {
+        ReadOnlyAddressBook readBack = readAddressBook("extraFieldsAddressBook.json").get();
+        assertEquals(List.of(ALICE), readBack.getClientList());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +106,68 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_typicalAddressBook_sameFormatAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_existingFile_previousDataKeptInBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        AddressBook modified = new AddressBook(original);
+        modified.addClient(HOON);
+        jsonAddressBookStorage.saveAddressBook(modified);
+        assertEquals(modified, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertEquals(original,
+                new AddressBook(jsonAddressBookStorage.readAddressBook(FileUtil.backupPathOf(filePath)).get()));
+    }
+
+    @Test
+    public void readAddressBook_matchingChecksum_fieldsNotNormalizedAgain() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAdaptedClient record = new JsonAdaptedClient("alice pauline", "94351253", "alice@example.com",
+                "123, Jurong West Ave 6", List.of());
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(List.of(record)), filePath);
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals("alice pauline", readBack.getClientList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void readAddressBook_otherFormatVersion_fieldsNormalized() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAdaptedClient record = new JsonAdaptedClient("alice pauline", "94351253", "alice@example.com",
+                "123, Jurong West Ave 6", List.of());
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(List.of(record)), filePath);
+        String savedJson = FileUtil.readFromFile(filePath);
+        String versionField = "\"" + JsonSerializableAddressBook.VERSION_FIELD + "\" : "
+                + JsonSerializableAddressBook.FORMAT_VERSION;
+        assertTrue(savedJson.contains(versionField));
+        FileUtil.writeToFile(filePath, savedJson.replace(versionField, versionField + "0"));
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals("Alice Pauline", readBack.getClientList().get(0).getName().fullName);
+    }
+
+    @Test
+    public void readAddressBook_savedFileEditedAfterwards_editValidated() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        // the checksum saved no longer matches, so the edited phone number is validated
+        String savedJson = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, savedJson.replace(ALICE.getPhone().value, "948asdf2424"));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.storage.ParallelClientConverter.BATCH_SIZE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.client.Client;
+import seedu.address.model.client.Email;
+import seedu.address.model.client.Phone;
+
+public class ParallelClientConverterTest {
+
+    private static final String INVALID_PHONE = "+651234";
+    private static final String INVALID_EMAIL = "example.com";
+
+    private static final int RECORD_COUNT = 3 * BATCH_SIZE + 5;
+
+    private static JsonAdaptedClient recordOf(int i, String phone, String email) {
+        return new JsonAdaptedClient("Client " + i, phone, email, "Block " + i, List.of(new JsonAdaptedTag("Policy")));
+    }
+
+    private static JsonAdaptedClient validRecordOf(int i) {
+        return recordOf(i, String.valueOf(80000000 + i), "client" + i + "@example.com");
+    }
+
+    @Test
+    public void finish_validRecords_clientsInOrder() throws Exception {
+        ParallelClientConverter converter = new ParallelClientConverter();
+        List<Client> expectedClients = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            converter.add(validRecordOf(i));
+            expectedClients.add(validRecordOf(i).toModelType());
+        }
+        assertEquals(expectedClients, converter.finish());
+    }
+
+    @Test
+    public void finish_noRecords_noClients() throws Exception {
+        assertEquals(List.of(), new ParallelClientConverter().finish());
+    }
+
+    @Test
+    public void finish_afterCancel_onlyRecordsAddedSinceConverted() throws Exception {
+        ParallelClientConverter converter = new ParallelClientConverter(false);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            converter.add(validRecordOf(i));
+        }
+        converter.cancel();
+
+        converter.add(validRecordOf(RECORD_COUNT));
+        assertEquals(List.of(validRecordOf(RECORD_COUNT).toModelType()), converter.finish());
+    }
+
+    @Test
+    public void finish_invalidRecordsInSeveralBatches_firstErrorReported() {
+        // the invalid email is in a later batch than the invalid phone, including the last batch
+        for (int invalidEmailIndex : new int[] {BATCH_SIZE + 1, RECORD_COUNT - 1}) {
+            assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> {
+                ParallelClientConverter converter = new ParallelClientConverter();
+                for (int i = 0; i < RECORD_COUNT; i++) {
+                    converter.add(i == 3 ? recordOf(i, INVALID_PHONE, "client3@example.com")
+                            : i == invalidEmailIndex ? recordOf(i, "80000000", INVALID_EMAIL)
+                            : validRecordOf(i));
+                }
+                converter.finish();
+            });
+        }
+    }
+
+    @Test
+    public void finish_invalidRecordInLastBatchOnly_errorReported() {
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, () -> {
+            ParallelClientConverter converter = new ParallelClientConverter();
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                converter.add(i == RECORD_COUNT - 1 ? recordOf(i, "80000000", INVALID_EMAIL) : validRecordOf(i));
+            }
+            converter.finish();
+        });
+    }
+}
@@ -59,6 +59,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasClient(Client client) {
         throw new AssertionError("This method should not be called.");